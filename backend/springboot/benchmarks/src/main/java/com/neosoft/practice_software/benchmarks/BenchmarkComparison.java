@@ -0,0 +1,119 @@
+package com.neosoft.practice_software.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Compares two JMH JSON result files (-rf json) and prints a Markdown report.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.neosoft.practice_software.benchmarks.BenchmarkComparison
+ * baseline.json current.json [thresholdPercent]}
+ * <p>
+ * A difference is only reported as a regression or an improvement when it exceeds the threshold (5% by default)
+ * and the two confidence intervals do not overlap. The exit code is 1 if any benchmark regressed.
+ */
+public final class BenchmarkComparison {
+    
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+    
+    private BenchmarkComparison() {
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+        
+        boolean regressed = false;
+        System.out.println("| Benchmark | Params | Baseline | Current | Delta | Verdict |");
+        System.out.println("|---|---|---:|---:|---:|---|");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "| %s | %s | - | %s | - | new |%n", now.name, now.params, now.format());
+                continue;
+            }
+            
+            double delta = (now.score - before.score) / before.score * 100;
+            // For throughput higher is better, for time modes lower is better
+            double worse = now.higherIsBetter() ? -delta : delta;
+            boolean significant = Math.abs(now.score - before.score) > now.error + before.error;
+            String verdict = "~";
+            if (significant && worse > threshold) {
+                verdict = "**regression**";
+                regressed = true;
+            } else if (significant && worse < -threshold) {
+                verdict = "improvement";
+            }
+            System.out.printf(Locale.ROOT, "| %s | %s | %s | %s | %+.1f%% | %s |%n",
+                    now.name, now.params, before.format(), now.format(), delta, verdict);
+        }
+        for (Map.Entry<String, Result> entry : baseline.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                Result before = entry.getValue();
+                System.out.printf(Locale.ROOT, "| %s | %s | %s | - | - | removed |%n",
+                        before.name, before.params, before.format());
+            }
+        }
+        
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Read a JMH JSON result file, keyed by benchmark, mode and parameters.
+     * 
+     * @param file The result file
+     * @return The results in file order
+     */
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode node : new ObjectMapper().readTree(file.toFile())) {
+            StringJoiner params = new StringJoiner(", ");
+            JsonNode paramsNode = node.path("params");
+            Iterator<Map.Entry<String, JsonNode>> fields = paramsNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                params.add(field.getKey() + "=" + field.getValue().asText());
+            }
+            
+            String benchmark = node.path("benchmark").asText();
+            String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+            JsonNode metric = node.path("primaryMetric");
+            Result result = new Result(name, node.path("mode").asText(), params.toString(),
+                    metric.path("score").asDouble(), metric.path("scoreError").asDouble(0),
+                    metric.path("scoreUnit").asText());
+            results.put(benchmark + "|" + result.mode + "|" + result.params, result);
+        }
+        return results;
+    }
+    
+    private record Result(String name, String mode, String params, double score, double error, String unit) {
+        
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+        
+        String format() {
+            // scoreError is NaN when a benchmark ran a single iteration
+            return Double.isNaN(error)
+                    ? String.format(Locale.ROOT, "%.3f %s", score, unit)
+                    : String.format(Locale.ROOT, "%.3f ± %.3f %s", score, error, unit);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.neosoft.practice_software.benchmarks;
+
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.domain.model.User;
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskEntity;
+import com.neosoft.practice_software.infrastructure.jpa.entity.UserEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic data sets shared by the benchmarks.
+ */
+final class BenchmarkData {
+    
+    static final int USERS = 50;
+    static final TaskStatus[] STATUSES = TaskStatus.values();
+    static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    
+    private BenchmarkData() {
+    }
+    
+    /**
+     * Build a description of the given number of words.
+     * 
+     * @param words Number of words
+     * @return The description
+     */
+    static String description(int words) {
+        StringBuilder description = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                description.append(i % 17 == 0 ? "\n" : " ");
+            }
+            description.append("word").append(i % 100);
+        }
+        return description.toString();
+    }
+    
+    static List<UserEntity> userEntities() {
+        List<UserEntity> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new UserEntity(new UUID(0, i), "user" + i, "user" + i + "@example.com", "USER",
+                    NOW, NOW, 0L));
+        }
+        return users;
+    }
+    
+    static List<TaskEntity> taskEntities(int size) {
+        List<UserEntity> users = userEntities();
+        List<TaskEntity> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserEntity assignee = users.get(i % USERS);
+            TaskEntity task = new TaskEntity();
+            task.setId(new UUID(1, i));
+            task.setTitle("Task " + i);
+            task.setDescription(description(i % 40));
+            task.setStatus(STATUSES[i % STATUSES.length]);
+            task.setPriority(PRIORITIES[i % PRIORITIES.length]);
+            task.setDueDate(LocalDate.of(2025, 1, 1).plusDays(i % 365));
+            task.setCreatedAt(NOW.minusMinutes(i));
+            task.setUpdatedAt(NOW.minusMinutes(i));
+            task.setAssigneeId(assignee.getId());
+            task.setAssignee(assignee);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+    
+    static List<Task> tasks(int size) {
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UUID assigneeId = new UUID(0, i % USERS);
+            User assignee = new User(assigneeId, "user" + (i % USERS), "user" + (i % USERS) + "@example.com",
+                    "USER", NOW, NOW, 0L);
+            tasks.add(new Task(new UUID(1, i), "Task " + i, description(i % 40),
+                    STATUSES[i % STATUSES.length], PRIORITIES[i % PRIORITIES.length],
+                    LocalDate.of(2025, 1, 1).plusDays(i % 365), NOW.minusMinutes(i), NOW.minusMinutes(i),
+                    assigneeId, assignee, 0L));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,105 @@
+package com.neosoft.practice_software.benchmarks;
+
+import com.neosoft.practice_software.TaskManagerApplication;
+import com.neosoft.practice_software.application.service.TaskService;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskCreationResult;
+import com.neosoft.practice_software.domain.model.TaskPage;
+import com.neosoft.practice_software.domain.model.TaskSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service and DAO round trips against the embedded H2 database, with the Liquibase schema and seed data.
+ * The task cache is disabled so that every call reaches the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DaoRoundTripBenchmark {
+    
+    private static final UUID SEED_USER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+    
+    @Param({"10000"})
+    private int tasks;
+    
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<UUID> taskIds;
+    private int next;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                // Command line arguments, as default properties would be overridden by application.yaml
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+                        "--app.cache.tasks.enabled=false",
+                        "--logging.level.root=WARN");
+        taskService = context.getBean(TaskService.class);
+        
+        List<Task> newTasks = BenchmarkData.tasks(tasks);
+        for (int i = 0; i < newTasks.size(); i++) {
+            // Titles must not clash with the seed tasks of the same assignee
+            Task task = newTasks.get(i);
+            task.setId(null);
+            task.setTitle("Benchmark task " + i);
+            task.setAssignee(null);
+            task.setAssigneeId(SEED_USER_ID);
+            task.setVersion(null);
+        }
+        taskIds = new ArrayList<>(tasks);
+        for (TaskCreationResult result : taskService.createTasks(newTasks)) {
+            taskIds.add(result.getTask().getId());
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    private UUID nextTaskId() {
+        next = (next + 1) % taskIds.size();
+        return taskIds.get(next);
+    }
+    
+    @Benchmark
+    public Optional<Task> getTaskById() {
+        return taskService.getTaskById(nextTaskId());
+    }
+    
+    @Benchmark
+    public TaskPage getFirstPage() {
+        return taskService.getTasksPage(null, 50, TaskSort.UPDATED_AT_DESC, true);
+    }
+    
+    @Benchmark
+    public Task updateTaskStatus() {
+        UUID taskId = nextTaskId();
+        return taskService.updateTaskStatus(taskId, next % 2 == 0 ? "DONE" : "TODO", null);
+    }
+}
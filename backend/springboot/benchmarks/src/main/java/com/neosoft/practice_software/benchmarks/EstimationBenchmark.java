@@ -0,0 +1,78 @@
+package com.neosoft.practice_software.benchmarks;
+
+import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.application.service.impl.TaskServiceImpl;
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.estimation.RuleBasedEstimationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskServiceImpl.estimateTaskTime with an in-memory DAO, so only the estimation itself is measured:
+ * the task does not change, so its estimate is memoised after the first call.
+ * The evaluation of the compiled rules, description word count included, is measured without memo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EstimationBenchmark {
+    
+    @Param({"0", "10", "100", "1000", "10000"})
+    private int descriptionWords;
+    
+    private TaskServiceImpl taskService;
+    private RuleBasedEstimationEngine uncachedEngine;
+    private Task task;
+    private UUID taskId;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        task = BenchmarkData.tasks(1).get(0);
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setPriority(TaskPriority.HIGH);
+        task.setDescription(BenchmarkData.description(descriptionWords));
+        taskId = task.getId();
+        
+        TaskDAO taskDAO = (TaskDAO) Proxy.newProxyInstance(TaskDAO.class.getClassLoader(),
+                new Class<?>[] {TaskDAO.class}, (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return Optional.of(task);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        RuleBasedEstimationEngine engine = new RuleBasedEstimationEngine(EstimationRules.DEFAULT, 1000, event -> { });
+        taskService = new TaskServiceImpl(taskDAO, null, event -> { }, null, null, engine);
+        uncachedEngine = new RuleBasedEstimationEngine(EstimationRules.DEFAULT, 0, event -> { });
+    }
+    
+    @Benchmark
+    public double estimateTaskTime() {
+        return taskService.estimateTaskTime(taskId);
+    }
+    
+    @Benchmark
+    public double evaluateRules() {
+        return uncachedEngine.estimate(task);
+    }
+}
@@ -0,0 +1,62 @@
+package com.neosoft.practice_software.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskDTO;
+import com.neosoft.practice_software.infrastructure.api.mapper.TaskDTOMapper;
+import com.neosoft.practice_software.infrastructure.api.mapper.TaskDTOMapperImpl;
+import com.neosoft.practice_software.infrastructure.api.mapper.UserDTOMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the GET /api/v1/tasks response body.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonSerializationBenchmark {
+    
+    @Param({"1000", "100000"})
+    private int size;
+    
+    private ObjectWriter listWriter;
+    private List<TaskDTO> dtos;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Same defaults as the ObjectMapper auto-configured by Spring Boot (ISO dates, java.time support)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(new TypeReference<List<TaskDTO>>() { });
+        
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+                TaskDTOMapperImpl.class, UserDTOMapperImpl.class)) {
+            dtos = context.getBean(TaskDTOMapper.class).toDTOs(BenchmarkData.tasks(size));
+        }
+    }
+    
+    @Benchmark
+    public byte[] serializeTaskList() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(dtos);
+    }
+}
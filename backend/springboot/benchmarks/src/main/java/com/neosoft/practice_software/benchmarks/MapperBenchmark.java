@@ -0,0 +1,80 @@
+package com.neosoft.practice_software.benchmarks;
+
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskDTO;
+import com.neosoft.practice_software.infrastructure.api.mapper.TaskDTOMapper;
+import com.neosoft.practice_software.infrastructure.api.mapper.TaskDTOMapperImpl;
+import com.neosoft.practice_software.infrastructure.api.mapper.UserDTOMapperImpl;
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskEntity;
+import com.neosoft.practice_software.infrastructure.jpa.mapper.TaskEntityMapper;
+import com.neosoft.practice_software.infrastructure.jpa.mapper.TaskEntityMapperImpl;
+import com.neosoft.practice_software.infrastructure.jpa.mapper.UserEntityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List mapping of the list endpoints: entities to business objects, then business objects to DTOs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperBenchmark {
+    
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+    
+    private AnnotationConfigApplicationContext context;
+    private TaskEntityMapper taskEntityMapper;
+    private TaskDTOMapper taskDTOMapper;
+    private List<TaskEntity> entities;
+    private List<Task> tasks;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // The generated mappers are Spring components wired with their user mappers
+        context = new AnnotationConfigApplicationContext(TaskEntityMapperImpl.class, UserEntityMapperImpl.class,
+                TaskDTOMapperImpl.class, UserDTOMapperImpl.class);
+        taskEntityMapper = context.getBean(TaskEntityMapper.class);
+        taskDTOMapper = context.getBean(TaskDTOMapper.class);
+        entities = BenchmarkData.taskEntities(size);
+        tasks = BenchmarkData.tasks(size);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<Task> entitiesToBOs() {
+        return taskEntityMapper.toBOs(entities);
+    }
+    
+    @Benchmark
+    public List<Task> entitiesToBOsWithoutAssignee() {
+        return taskEntityMapper.toBOsWithoutAssignee(entities);
+    }
+    
+    @Benchmark
+    public List<TaskDTO> bosToDTOs() {
+        return taskDTOMapper.toDTOs(tasks);
+    }
+}
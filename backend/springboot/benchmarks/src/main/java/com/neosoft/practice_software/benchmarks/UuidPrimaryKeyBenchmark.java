@@ -0,0 +1,117 @@
+package com.neosoft.practice_software.benchmarks;
+
+import com.neosoft.practice_software.infrastructure.jpa.id.UuidV7Generator;
+import org.hibernate.generator.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Batched inserts into a table keyed by a UUID that already holds {@code rows} rows, with random (version 4)
+ * and time-ordered (version 7) keys. The score is in rows per second.
+ * <p>
+ * The size of the primary key index is printed at the end of each trial on PostgreSQL
+ * ({@code -p url=jdbc:postgresql://...}); H2 does not report it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class UuidPrimaryKeyBenchmark {
+    
+    private static final int BATCH = 1000;
+    private static final String TABLE = "uuid_benchmark";
+    
+    @Param({"4", "7"})
+    private int uuidVersion;
+    
+    @Param({"2000000"})
+    private int rows;
+    
+    @Param({"jdbc:h2:mem:uuid_benchmark;DB_CLOSE_DELAY=-1"})
+    private String url;
+    
+    @Param({"sa"})
+    private String user;
+    
+    @Param({""})
+    private String password;
+    
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        UuidV7Generator generator = new UuidV7Generator();
+        ids = uuidVersion == 7
+                ? () -> (UUID) generator.generate(null, null, null, EventType.INSERT)
+                : UUID::randomUUID;
+        
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists " + TABLE);
+            statement.execute("create table " + TABLE + " (id uuid primary key, payload varchar(64) not null)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("insert into " + TABLE + " (id, payload) values (?, ?)");
+        for (int i = 0; i < rows; i += BATCH) {
+            insertBatch();
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (url.startsWith("jdbc:postgresql:")) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet size = statement.executeQuery("select count(*), pg_relation_size('" + TABLE + "_pkey'), "
+                         + "pg_size_pretty(pg_relation_size('" + TABLE + "_pkey')) from " + TABLE)) {
+                size.next();
+                System.out.printf("%nUUID v%d: %d rows, primary key index %d bytes (%s)%n",
+                        uuidVersion, size.getLong(1), size.getLong(2), size.getString(3));
+            }
+        }
+        insert.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            insert.setObject(1, ids.get());
+            insert.setString(2, "payload");
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+}
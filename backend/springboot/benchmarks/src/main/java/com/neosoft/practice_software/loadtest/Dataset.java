@@ -0,0 +1,44 @@
+package com.neosoft.practice_software.loadtest;
+
+import java.net.URI;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data known by the load generator: target URL and IDs of the seeded rows.
+ * 
+ * @param baseUri Base URL of the application
+ * @param runId   Identifier of the run, used to keep created titles unique across runs
+ * @param taskIds IDs of the seeded tasks
+ * @param userIds IDs of the existing users
+ * @param sequence Counter of the titles created during the run
+ */
+record Dataset(URI baseUri, String runId, List<UUID> taskIds, List<UUID> userIds, AtomicLong sequence) {
+    
+    Dataset(URI baseUri, String runId, List<UUID> taskIds, List<UUID> userIds) {
+        this(baseUri, runId, List.copyOf(taskIds), List.copyOf(userIds), new AtomicLong());
+    }
+    
+    URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+    
+    UUID randomTask(SplittableRandom random) {
+        return taskIds.get(random.nextInt(taskIds.size()));
+    }
+    
+    UUID randomUser(SplittableRandom random) {
+        return userIds.get(random.nextInt(userIds.size()));
+    }
+    
+    /**
+     * Build a task title that no other request of any run uses.
+     * 
+     * @return The title
+     */
+    String nextTitle() {
+        return "Load task " + runId + "-" + sequence.incrementAndGet();
+    }
+}
@@ -0,0 +1,94 @@
+package com.neosoft.practice_software.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per endpoint, safe to record from any thread.
+ * Latencies are recorded in microseconds, from the intended start of the request.
+ */
+final class LatencyRecorder {
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    
+    void record(String endpoint, long latencyNanos, boolean error) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        stats.histogram.recordValue(micros);
+        if (error) {
+            stats.errors.increment();
+        }
+    }
+    
+    /**
+     * Write the summary table and one HdrHistogram percentile distribution file (.hgrm) per endpoint.
+     * 
+     * @param directory Output directory
+     * @param title     Title of the summary
+     * @param measured  Duration of the measurement, used for the throughput
+     * @return The summary, in Markdown
+     */
+    String write(Path directory, String title, Duration measured) throws IOException {
+        Files.createDirectories(directory);
+        double seconds = measured.toNanos() / 1e9;
+        
+        StringBuilder summary = new StringBuilder();
+        summary.append("# ").append(title).append("\n\n");
+        summary.append("| Endpoint | Requests | Errors | Throughput (req/s) | p50 (ms) | p99 (ms) | p99.9 (ms) | max (ms) |\n");
+        summary.append("|---|---:|---:|---:|---:|---:|---:|---:|\n");
+        
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram histogram = entry.getValue().histogram.copy();
+            long errors = entry.getValue().errors.sum();
+            total.add(histogram);
+            totalErrors += errors;
+            summary.append(row(entry.getKey(), histogram, errors, seconds));
+            
+            Path file = directory.resolve(fileName(entry.getKey()) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                // Values are scaled from microseconds to milliseconds
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        summary.append(row("**total**", total, totalErrors, seconds));
+        
+        Files.writeString(directory.resolve("report.md"), summary);
+        return summary.toString();
+    }
+    
+    private static String row(String endpoint, Histogram histogram, long errors, double seconds) {
+        return String.format(Locale.ROOT, "| %s | %d | %d | %.1f | %.2f | %.2f | %.2f | %.2f |%n",
+                endpoint, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    }
+    
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+    
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+    
+    private static final class EndpointStats {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,144 @@
+package com.neosoft.practice_software.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.neosoft.practice_software.TaskManagerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP load test of the task and user endpoints.
+ * <p>
+ * Boots the application on a random port with an in-memory H2 database (or targets --target), seeds tasks
+ * through the bulk endpoint, runs a scenario at a constant arrival rate and writes the latency reports.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.neosoft.practice_software.loadtest.LoadTest
+ * --scenario=kanban --rate=200 --warmup=10s --duration=60s --tasks=10000}
+ */
+public final class LoadTest {
+    
+    private static final int SEED_CHUNK_SIZE = 1000;
+    private static final long RANDOM_SEED = 42;
+    
+    private LoadTest() {
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = null;
+        URI baseUri = options.target();
+        if (baseUri == null) {
+            context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                    .profiles(options.profiles() == null ? new String[0] : options.profiles().split(","))
+                    // Command line arguments, as default properties would be overridden by application.yaml
+                    .run("--server.port=0",
+                            "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                            "--logging.level.root=WARN");
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUri = URI.create("http://localhost:" + port);
+        }
+        
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+            String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            ObjectMapper objectMapper = new ObjectMapper();
+            List<UUID> userIds = fetchUserIds(client, objectMapper, baseUri);
+            List<UUID> taskIds = seedTasks(client, objectMapper, baseUri, runId, userIds, options.tasks());
+            Dataset data = new Dataset(baseUri, runId, taskIds, userIds);
+            
+            System.out.printf(Locale.ROOT, "Running %s at %.1f req/s against %s (%d tasks, %d users)%n",
+                    options.scenario(), options.rate(), baseUri, taskIds.size(), userIds.size());
+            LatencyRecorder recorder = new OpenModelLoadGenerator(client, data, RANDOM_SEED)
+                    .run(options.scenario(), options.rate(), options.warmup(), options.duration());
+            
+            String mode = options.profiles() == null ? "" : "-" + options.profiles().replace(',', '-');
+            Path directory = options.output().resolve(
+                    options.scenario().name().toLowerCase(Locale.ROOT) + mode + "-" + runId);
+            String title = String.format(Locale.ROOT, "%s - %.1f req/s - %s - profiles: %s", options.scenario(),
+                    options.rate(), options.duration(), options.profiles() == null ? "default" : options.profiles());
+            System.out.print(recorder.write(directory, title, options.duration()));
+            System.out.println("Reports written to " + directory.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+    
+    private static List<UUID> fetchUserIds(HttpClient client, ObjectMapper objectMapper, URI baseUri)
+            throws IOException, InterruptedException {
+        JsonNode users = objectMapper.readTree(send(client, HttpRequest.newBuilder(baseUri.resolve("/api/v1/users"))
+                .GET().build()));
+        List<UUID> userIds = new ArrayList<>();
+        users.forEach(user -> userIds.add(UUID.fromString(user.path("id").asText())));
+        if (userIds.isEmpty()) {
+            throw new IllegalStateException("No user found on " + baseUri);
+        }
+        return userIds;
+    }
+    
+    /**
+     * Create tasks through the bulk endpoint, spread over the users.
+     * 
+     * @return The IDs of the created tasks
+     */
+    private static List<UUID> seedTasks(HttpClient client, ObjectMapper objectMapper, URI baseUri, String runId,
+                                        List<UUID> userIds, int count) throws IOException, InterruptedException {
+        List<UUID> taskIds = new ArrayList<>(count);
+        String[] statuses = {"TODO", "IN_PROGRESS", "DONE"};
+        for (int from = 0; from < count; from += SEED_CHUNK_SIZE) {
+            ArrayNode chunk = objectMapper.createArrayNode();
+            for (int i = from; i < Math.min(count, from + SEED_CHUNK_SIZE); i++) {
+                chunk.addObject()
+                        .put("title", "Seed task " + runId + "-" + i)
+                        .put("description", "Seeded by the load test, task " + i)
+                        .put("status", statuses[i % statuses.length])
+                        .put("priority", "MEDIUM")
+                        .put("assigneeId", userIds.get(i % userIds.size()).toString());
+            }
+            
+            JsonNode results = objectMapper.readTree(send(client,
+                    HttpRequest.newBuilder(baseUri.resolve("/api/v1/tasks/bulk"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(chunk)))
+                            .build()));
+            for (JsonNode result : results) {
+                if (result.path("created").asBoolean()) {
+                    taskIds.add(UUID.fromString(result.path("task").path("id").asText()));
+                }
+            }
+        }
+        if (taskIds.isEmpty()) {
+            throw new IllegalStateException("No task could be seeded on " + baseUri);
+        }
+        return taskIds;
+    }
+    
+    private static String send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " failed with "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,76 @@
+package com.neosoft.practice_software.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Command line options of the load test, given as --name=value.
+ * 
+ * @param scenario Scenario to run
+ * @param rate     Arrival rate in requests per second
+ * @param warmup   Duration of the warmup, whose results are discarded
+ * @param duration Duration of the measurement
+ * @param tasks    Number of tasks seeded before the run
+ * @param target   Base URL of an already running application, null to boot one on a random port
+ * @param output   Directory of the reports
+ * @param profiles Spring profiles of the booted application, comma separated, null for none
+ */
+record LoadTestOptions(Scenario scenario, double rate, Duration warmup, Duration duration, int tasks, URI target,
+                       Path output, String profiles) {
+    
+    static LoadTestOptions parse(String[] args) {
+        Scenario scenario = Scenario.KANBAN;
+        double rate = 100;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(60);
+        int tasks = 10_000;
+        URI target = null;
+        Path output = Path.of("target", "loadtest");
+        String profiles = null;
+        
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Invalid option: " + arg + ", expected --name=value");
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "scenario" -> scenario = Scenario.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+                case "rate" -> rate = Double.parseDouble(value);
+                case "warmup" -> warmup = parseDuration(value);
+                case "duration" -> duration = parseDuration(value);
+                case "tasks" -> tasks = Integer.parseInt(value);
+                case "target" -> target = URI.create(value);
+                case "output" -> output = Path.of(value);
+                case "profiles" -> profiles = value;
+                default -> throw new IllegalArgumentException("Unknown option: " + name);
+            }
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        return new LoadTestOptions(scenario, rate, warmup, duration, tasks, target, output, profiles);
+    }
+    
+    /**
+     * Parse a duration such as 30s, 5m or an ISO-8601 duration.
+     * 
+     * @param value The duration
+     * @return The parsed duration
+     */
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+}
@@ -0,0 +1,107 @@
+package com.neosoft.practice_software.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started at a constant arrival rate, whatever the response times.
+ * <p>
+ * A closed model (N users waiting for each response) slows down with the server and hides the queueing delay,
+ * which is known as coordinated omission. Here each request has an intended start time on the arrival schedule,
+ * runs on its own virtual thread, and its latency is measured from that intended start, so a stalled server or
+ * a late scheduler shows up in the percentiles.
+ */
+final class OpenModelLoadGenerator {
+    
+    private final HttpClient client;
+    private final Dataset data;
+    private final long seed;
+    
+    OpenModelLoadGenerator(HttpClient client, Dataset data, long seed) {
+        this.client = client;
+        this.data = data;
+        this.seed = seed;
+    }
+    
+    /**
+     * Run a scenario, then wait for the requests in flight.
+     * 
+     * @param scenario Scenario to run
+     * @param rate     Base arrival rate, in requests per second
+     * @param warmup   Duration whose results are discarded
+     * @param duration Duration of the measurement
+     * @return The latencies of the measurement
+     */
+    LatencyRecorder run(Scenario scenario, double rate, Duration warmup, Duration duration)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicLong inFlight = new AtomicLong();
+        AtomicLong maxInFlight = new AtomicLong();
+        SplittableRandom random = new SplittableRandom(seed);
+        
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long intended = start;
+            while (intended < end) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                
+                // The request is built on the scheduler thread so that the random sequence is reproducible
+                Scenario.Operation operation = scenario.pick(random);
+                HttpRequest request = operation.request().apply(data, random);
+                boolean measured = intended >= measureFrom;
+                long scheduledAt = intended;
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                executor.execute(() -> {
+                    try {
+                        boolean error = !send(request);
+                        if (measured) {
+                            recorder.record(operation.endpoint(), System.nanoTime() - scheduledAt, error);
+                        }
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+                
+                intended += (long) (intervalNanos / scenario.rateFactor(intended - start));
+            }
+            // Closing the executor waits for the requests in flight
+        }
+        
+        System.out.printf("Peak concurrency: %d requests in flight%n", maxInFlight.get());
+        return recorder;
+    }
+    
+    /**
+     * Send a request and drain its body.
+     * 
+     * @param request The request
+     * @return true if the response is a success or a 304
+     */
+    private boolean send(HttpRequest request) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // Timeouts and connection errors count as errors, with the latency observed until the failure
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.neosoft.practice_software.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+
+/**
+ * Scripted request mixes. Each arrival picks one operation according to the weights.
+ */
+enum Scenario {
+    
+    /**
+     * Users browsing the board: first page of tasks, task details and the user list.
+     */
+    KANBAN(List.of(
+            new Operation("GET /api/v1/tasks/page", 50,
+                    (data, random) -> get(data, "/api/v1/tasks/page?size=50")),
+            new Operation("GET /api/v1/tasks/{id}", 30,
+                    (data, random) -> get(data, "/api/v1/tasks/" + data.randomTask(random))),
+            new Operation("GET /api/v1/users", 20,
+                    (data, random) -> get(data, "/api/v1/users")))),
+    
+    /**
+     * Cards dragged between columns, with the task reload that follows.
+     */
+    DRAG_AND_DROP(List.of(
+            new Operation("PUT /api/v1/tasks/{id}/status", 70,
+                    (data, random) -> put(data, "/api/v1/tasks/" + data.randomTask(random)
+                            + "/status?status=" + Operation.STATUSES[random.nextInt(Operation.STATUSES.length)])),
+            new Operation("GET /api/v1/tasks/{id}", 30,
+                    (data, random) -> get(data, "/api/v1/tasks/" + data.randomTask(random))))),
+    
+    /**
+     * Task creation in bursts: five times the base rate one second out of ten, half of it otherwise.
+     */
+    CREATION_BURST(List.of(
+            new Operation("POST /api/v1/tasks", 80,
+                    (data, random) -> post(data, "/api/v1/tasks", """
+                            {"title":"%s","description":"Created by the load test","status":"TODO",\
+                            "priority":"MEDIUM","assigneeId":"%s"}"""
+                            .formatted(data.nextTitle(), data.randomUser(random)))),
+            new Operation("GET /api/v1/tasks/page", 20,
+                    (data, random) -> get(data, "/api/v1/tasks/page?size=50")))) {
+        @Override
+        double rateFactor(long elapsedNanos) {
+            return elapsedNanos / 1_000_000_000L % 10 == 0 ? 5.0 : 0.5;
+        }
+    };
+    
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    
+    private final List<Operation> operations;
+    private final int totalWeight;
+    
+    Scenario(List<Operation> operations) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+    
+    List<Operation> operations() {
+        return operations;
+    }
+    
+    /**
+     * Pick the operation of the next arrival.
+     * 
+     * @param random Random source of the scheduler
+     * @return The operation
+     */
+    Operation pick(SplittableRandom random) {
+        int draw = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            draw -= operation.weight();
+            if (draw < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights changed during the run");
+    }
+    
+    /**
+     * Factor applied to the base arrival rate, allowing scenarios with bursts.
+     * 
+     * @param elapsedNanos Time elapsed since the beginning of the run
+     * @return The rate factor
+     */
+    double rateFactor(long elapsedNanos) {
+        return 1.0;
+    }
+    
+    private static HttpRequest get(Dataset data, String path) {
+        return HttpRequest.newBuilder(data.uri(path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+    
+    private static HttpRequest put(Dataset data, String path) {
+        return HttpRequest.newBuilder(data.uri(path)).timeout(REQUEST_TIMEOUT)
+                .PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+    
+    private static HttpRequest post(Dataset data, String path, String json) {
+        return HttpRequest.newBuilder(data.uri(path)).timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+    
+    /**
+     * One kind of request of a scenario.
+     * 
+     * @param endpoint Name of the endpoint in the reports
+     * @param weight   Relative frequency in the mix
+     * @param request  Builds a request from the data set
+     */
+    record Operation(String endpoint, int weight, BiFunction<Dataset, SplittableRandom, HttpRequest> request) {
+        
+        static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    }
+}
@@ -1,46 +1,126 @@
 package com.neosoft.practice_software.application.dao;
 
+import com.neosoft.practice_software.domain.model.DataVersion;
 import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChange;
+import com.neosoft.practice_software.domain.model.TaskChangeToken;
+import com.neosoft.practice_software.domain.model.TaskCursor;
+import com.neosoft.practice_software.domain.model.TaskSort;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * DAO interface for Task operations.
+ * <p>
+ * DONE tasks left untouched for long are archived out of the hot table, see {@link #archiveDone}. Lookups by ID
+ * and title checks still see them, lists only on request, and the other queries ignore them. Writing an
+ * archived task by ID moves it back to the hot table first.
  */
 public interface TaskDAO {
     
     /**
      * Find all tasks.
      * 
+     * @param withAssignee Whether to load the assignee of each task
+     * @param includeArchived Whether to return the archived tasks too, after the others
      * @return List of all tasks
      */
-    List<Task> findAll();
+    List<Task> findAll(boolean withAssignee, boolean includeArchived);
+    
+    /**
+     * Read all tasks one by one without loading them all in memory.
+     * Assignees are not loaded.
+     * 
+     * @param consumer Callback receiving each task
+     */
+    void streamAll(Consumer<Task> consumer);
+    
+    /**
+     * Find a page of tasks using keyset pagination.
+     * 
+     * @param after Position to start after (null for the first page)
+     * @param sort Sort of the page
+     * @param limit Maximum number of tasks to return
+     * @param withAssignee Whether to load the assignee of each task
+     * @return Tasks following the given position
+     */
+    List<Task> findPage(TaskCursor after, TaskSort sort, int limit, boolean withAssignee);
     
     /**
      * Find tasks by status.
      * 
      * @param status Task status
+     * @param withAssignee Whether to load the assignee of each task
+     * @param includeArchived Whether to return the archived tasks too, after the others
      * @return List of tasks with the given status
      */
-    List<Task> findByStatus(String status);
+    List<Task> findByStatus(TaskStatus status, boolean withAssignee, boolean includeArchived);
     
     /**
      * Find tasks by assignee ID.
      * 
      * @param assigneeId Assignee ID
+     * @param withAssignee Whether to load the assignee of each task
+     * @param includeArchived Whether to return the archived tasks too, after the others
      * @return List of tasks assigned to the given user
      */
-    List<Task> findByAssigneeId(UUID assigneeId);
+    List<Task> findByAssigneeId(UUID assigneeId, boolean withAssignee, boolean includeArchived);
+    
+    /**
+     * Move tasks from one status to another without loading them.
+     * Archived tasks are left as they are.
+     * 
+     * @param from Current status
+     * @param to New status
+     * @param assigneeId Restrict to this assignee, or null for all tasks
+     * @return Number of updated tasks
+     */
+    int updateStatus(TaskStatus from, TaskStatus to, UUID assigneeId);
+    
+    /**
+     * Set the status of the given tasks without loading them.
+     * 
+     * @param ids Task IDs
+     * @param to New status
+     * @return Number of updated tasks
+     */
+    int updateStatusByIds(Collection<UUID> ids, TaskStatus to);
     
     /**
-     * Find a task by ID.
+     * Find a task by ID, in the archive if it is not in the hot table.
      * 
      * @param id Task ID
      * @return Optional containing the task if found
      */
     Optional<Task> findById(UUID id);
     
+    /**
+     * Find tasks by ID, with their assignee.
+     * 
+     * @param ids Task IDs, unknown IDs are ignored
+     * @return The tasks found, in no particular order
+     */
+    List<Task> findByIds(Collection<UUID> ids);
+    
+    /**
+     * Find the tasks to estimate, matching all the given criteria.
+     * Only the ID, status, priority, description and update date of the tasks are loaded.
+     * 
+     * @param ids Task IDs (null for any), unknown IDs are ignored
+     * @param assigneeId Assignee ID (null for any)
+     * @param status Task status (null for any)
+     * @param limit Maximum number of tasks
+     * @return The matching tasks, in no particular order
+     */
+    List<Task> findForEstimation(Collection<UUID> ids, UUID assigneeId, TaskStatus status, int limit);
+    
     /**
      * Find a task by title and assignee ID.
      * 
@@ -59,16 +139,64 @@ public interface TaskDAO {
     Task save(Task task);
     
     /**
-     * Update a task.
+     * Insert new tasks using JDBC batches.
+     * 
+     * @param tasks Tasks to insert
+     * @return Inserted tasks, in the same order, without assignees
+     */
+    List<Task> saveAll(List<Task> tasks);
+    
+    /**
+     * Update a task, loading it only if it is not already in the current transaction.
+     * When the task has a version, it must be the current one, and the update is flushed
+     * right away so that concurrent changes are detected here.
      * 
      * @param task Task to update
      * @return Updated task
+     * @throws com.neosoft.practice_software.domain.exception.VersionConflictException if the version is outdated
      */
     Task update(Task task);
-
     
     /**
-     * Check if a task exists by ID.
+     * Move to the archive some of the DONE tasks last updated before a date, oldest first.
+     * Each call resumes after the last task archived by the previous one.
+     * 
+     * @param before Update date limit
+     * @param limit Maximum number of tasks to archive
+     * @return Number of archived tasks, below the limit once none remain
+     */
+    int archiveDone(LocalDateTime before, int limit);
+    
+    /**
+     * Delete a task, leaving a tombstone for the clients that synchronize their tasks.
+     * The task is only marked as deleted, see {@link #purgeDeleted}.
+     * 
+     * @param id Task ID
+     * @return true if the task existed
+     */
+    boolean deleteById(UUID id);
+    
+    /**
+     * Remove from the database some of the tasks deleted before a date, oldest first.
+     * 
+     * @param before Deletion date limit
+     * @param limit Maximum number of tasks to remove
+     * @return Number of removed tasks, below the limit once none remain
+     */
+    int purgeDeleted(LocalDateTime before, int limit);
+    
+    /**
+     * Remove some of the tombstones of the tasks deleted before a date, oldest first.
+     * Clients that did not synchronize since then no longer learn about these deletions.
+     * 
+     * @param before Deletion date limit
+     * @param limit Maximum number of tombstones to remove
+     * @return Number of removed tombstones, below the limit once none remain
+     */
+    int purgeTombstones(LocalDateTime before, int limit);
+    
+    /**
+     * Check if a task exists by ID, archived or not.
      * 
      * @param id Task ID
      * @return true if the task exists
@@ -76,11 +204,47 @@ public interface TaskDAO {
     boolean existsById(UUID id);
     
     /**
-     * Check if a task exists by title and assignee ID.
+     * Check if a task exists by title and assignee ID, archived or not.
      * 
      * @param title Task title
      * @param assigneeId Assignee ID
      * @return true if the task exists
      */
     boolean existsByTitleAndAssigneeId(String title, UUID assigneeId);
+    
+    /**
+     * Find the titles already used by the given assignees among the given titles, archived tasks included.
+     * 
+     * @param assigneeIds Assignee IDs
+     * @param titles Task titles
+     * @return Used titles per assignee ID (mutable sets)
+     */
+    Map<UUID, Set<String>> findTitlesByAssignees(Collection<UUID> assigneeIds, Collection<String> titles);
+    
+    /**
+     * Get the version of all tasks, without loading them.
+     * 
+     * @param includeArchived Whether the archived tasks are included
+     * @return The version of the tasks
+     */
+    DataVersion getDataVersion(boolean includeArchived);
+    
+    /**
+     * Get the greatest change sequence number up to which every write is visible to the current transaction.
+     * Changes above it may still be committed with smaller numbers than the ones already visible.
+     * 
+     * @return The watermark
+     */
+    long getChangeWatermark();
+    
+    /**
+     * Find the latest state of the tasks changed after a position of the change sequence, in sequence order.
+     * 
+     * @param after Position to start after
+     * @param upTo Greatest change sequence number to return, see {@link #getChangeWatermark()}
+     * @param limit Maximum number of changes to return
+     * @param withDeletions Whether to return the deleted tasks too
+     * @return The changes, with tasks without assignee
+     */
+    List<TaskChange> findChanges(TaskChangeToken after, long upTo, int limit, boolean withDeletions);
 } 
\ No newline at end of file
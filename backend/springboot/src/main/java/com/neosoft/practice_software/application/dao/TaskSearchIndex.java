@@ -0,0 +1,22 @@
+package com.neosoft.practice_software.application.dao;
+
+import com.neosoft.practice_software.domain.model.TaskSearchHit;
+import java.util.List;
+
+/**
+ * Full-text index of the task titles and descriptions.
+ * Title matches rank above description matches. The index may lag behind the committed tasks
+ * for a short time, callers load the tasks it returns and skip the ones that no longer exist.
+ */
+public interface TaskSearchIndex {
+    
+    /**
+     * Find the tasks matching a query, best matches first.
+     * A task matches when it contains all the words of the query, whatever their case.
+     * 
+     * @param query Words to look for
+     * @param limit Maximum number of tasks to return
+     * @return The matching tasks, by decreasing score
+     */
+    List<TaskSearchHit> search(String query, int limit);
+}
@@ -0,0 +1,16 @@
+package com.neosoft.practice_software.application.dao;
+
+import com.neosoft.practice_software.domain.model.TaskStats;
+
+/**
+ * Board statistics kept up to date as tasks change, so that reading them does not scan the tasks.
+ */
+public interface TaskStatsSource {
+    
+    /**
+     * Get the current statistics.
+     * 
+     * @return Counts and estimates of the live tasks, groups sorted by key
+     */
+    TaskStats getStats();
+}
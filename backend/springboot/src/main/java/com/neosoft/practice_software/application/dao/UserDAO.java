@@ -1,8 +1,11 @@
 package com.neosoft.practice_software.application.dao;
 
+import com.neosoft.practice_software.domain.model.DataVersion;
 import com.neosoft.practice_software.domain.model.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -43,9 +46,12 @@ public interface UserDAO {
     
     /**
      * Update a user.
+     * When the user has a version, it must be the current one, and the update is flushed
+     * right away so that concurrent changes are detected here.
      * 
      * @param user User to update
      * @return Updated user
+     * @throws com.neosoft.practice_software.domain.exception.VersionConflictException if the version is outdated
      */
     User update(User user);
     
@@ -64,6 +70,14 @@ public interface UserDAO {
      */
     boolean existsById(UUID id);
     
+    /**
+     * Find which of the given user IDs exist, in a single query.
+     * 
+     * @param ids User IDs
+     * @return IDs of the existing users
+     */
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+    
     /**
      * Check if a user exists by username.
      * 
@@ -71,4 +85,11 @@ public interface UserDAO {
      * @return true if the user exists
      */
     boolean existsByUsername(String username);
+    
+    /**
+     * Get the version of all users, without loading them.
+     * 
+     * @return The version of the users table
+     */
+    DataVersion getDataVersion();
 } 
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.neosoft.practice_software.application.service;
+
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+
+/**
+ * Computes the time estimates of the tasks.
+ * A bean of this type replaces the default rule-based engine.
+ */
+public interface EstimationEngine {
+    
+    /**
+     * Estimate a task. The result may be reused for the same task ID and update date.
+     * 
+     * @param task Task with at least its status, priority and description
+     * @return Estimated time in hours
+     */
+    double estimate(Task task);
+    
+    /**
+     * Estimate a task from the fields the estimate depends on, without reusing any result.
+     * 
+     * @param priority Task priority
+     * @param status Task status
+     * @param descriptionWords Number of words of the description
+     * @return Estimated time in hours
+     */
+    double estimate(TaskPriority priority, TaskStatus status, int descriptionWords);
+    
+    /**
+     * Get the rules currently applied.
+     * 
+     * @return The rule set
+     */
+    EstimationRules getRules();
+    
+    /**
+     * Replace the rules. Estimates already running finish with the previous rules, and the change is
+     * published as an application event carrying the new rules.
+     * 
+     * @param rules The new rule set
+     */
+    void reload(EstimationRules rules);
+}
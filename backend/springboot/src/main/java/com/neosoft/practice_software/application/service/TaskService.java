@@ -1,9 +1,19 @@
 package com.neosoft.practice_software.application.service;
 
+import com.neosoft.practice_software.domain.model.DataVersion;
 import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChangeSet;
+import com.neosoft.practice_software.domain.model.TaskCreationResult;
+import com.neosoft.practice_software.domain.model.TaskEstimates;
+import com.neosoft.practice_software.domain.model.TaskPage;
+import com.neosoft.practice_software.domain.model.TaskSearchResult;
+import com.neosoft.practice_software.domain.model.TaskSort;
+import com.neosoft.practice_software.domain.model.TaskStats;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for Task operations.
@@ -13,25 +23,60 @@ public interface TaskService {
     /**
      * Get all tasks.
      * 
+     * @param withAssignee Whether to load the assignee of each task
+     * @param includeArchived Whether to return the archived tasks too
      * @return List of all tasks
+     * @deprecated Loads the whole table, use {@link #getTasksPage(String, int, TaskSort, boolean)} instead
      */
-    List<Task> getAllTasks();
+    @Deprecated
+    List<Task> getAllTasks(boolean withAssignee, boolean includeArchived);
+    
+    /**
+     * Get a page of tasks.
+     * 
+     * @param cursor Cursor returned with the previous page (null for the first page)
+     * @param size Page size
+     * @param sort Sort of the pages
+     * @param withAssignee Whether to load the assignee of each task
+     * @return The requested page
+     */
+    TaskPage getTasksPage(String cursor, int size, TaskSort sort, boolean withAssignee);
+    
+    /**
+     * Export all tasks one by one, without assignees.
+     * 
+     * @param consumer Callback receiving each task
+     */
+    void exportTasks(Consumer<Task> consumer);
     
     /**
      * Get tasks by status.
      * 
      * @param status Task status
+     * @param withAssignee Whether to load the assignee of each task
+     * @param includeArchived Whether to return the archived tasks too
      * @return List of tasks with the given status
      */
-    List<Task> getTasksByStatus(String status);
+    List<Task> getTasksByStatus(String status, boolean withAssignee, boolean includeArchived);
     
     /**
      * Get tasks by assignee.
      * 
      * @param assigneeId Assignee ID
+     * @param withAssignee Whether to load the assignee of each task
+     * @param includeArchived Whether to return the archived tasks too
      * @return List of tasks assigned to the given user
      */
-    List<Task> getTasksByAssignee(UUID assigneeId);
+    List<Task> getTasksByAssignee(UUID assigneeId, boolean withAssignee, boolean includeArchived);
+    
+    /**
+     * Get the version of the task list, without loading it.
+     * 
+     * @param withAssignee Whether the list includes the assignees
+     * @param includeArchived Whether the list includes the archived tasks
+     * @return Version of all tasks, and of all users if assignees are included
+     */
+    DataVersion getTasksVersion(boolean withAssignee, boolean includeArchived);
     
     /**
      * Get a task by ID.
@@ -49,11 +94,20 @@ public interface TaskService {
      */
     Task createTask(Task task);
     
+    /**
+     * Create several tasks at once. Invalid tasks are rejected individually,
+     * the valid ones are inserted in JDBC batches.
+     * 
+     * @param tasks Tasks to create
+     * @return One result per task, in the same order
+     */
+    List<TaskCreationResult> createTasks(List<Task> tasks);
+    
     /**
      * Update a task.
      * 
      * @param id Task ID
-     * @param task Task data to update
+     * @param task Task data to update, with the version it is based on (optional)
      * @return Updated task
      */
     Task updateTask(UUID id, Task task);
@@ -63,18 +117,73 @@ public interface TaskService {
      * 
      * @param taskId Task ID
      * @param assigneeId Assignee ID (null to unassign)
+     * @param expectedVersion Version the change is based on (optional)
      * @return Updated task
      */
-    Task assignTask(UUID taskId, UUID assigneeId);
+    Task assignTask(UUID taskId, UUID assigneeId, Long expectedVersion);
     
     /**
      * Update the status of a task.
      * 
      * @param taskId Task ID
      * @param status New status
+     * @param expectedVersion Version the change is based on (optional)
      * @return Updated task
      */
-    Task updateTaskStatus(UUID taskId, String status);
+    Task updateTaskStatus(UUID taskId, String status, Long expectedVersion);
+    
+    /**
+     * Move all tasks in a status to another status, in a single statement.
+     * 
+     * @param from Current status
+     * @param to New status
+     * @param assigneeId Restrict to the tasks of this assignee (optional)
+     * @return Number of updated tasks
+     */
+    int updateTasksStatus(String from, String to, UUID assigneeId);
+    
+    /**
+     * Set the status of several tasks, in a single statement.
+     * 
+     * @param taskIds Task IDs, unknown IDs are ignored
+     * @param to New status
+     * @return Number of updated tasks
+     */
+    int updateTasksStatus(Collection<UUID> taskIds, String to);
+    
+    /**
+     * Delete a task.
+     * 
+     * @param id Task ID
+     * @return true if the task was deleted
+     */
+    boolean deleteTask(UUID id);
+    
+    /**
+     * Get the tasks changed and deleted since a token, for clients keeping a local copy of the tasks.
+     * Without token, every task is returned. Follow the returned token while more changes remain.
+     * 
+     * @param since Token returned by the previous call (optional)
+     * @param size Maximum number of changed and deleted tasks
+     * @return The changes, with tasks without assignee
+     */
+    TaskChangeSet getTaskChanges(String since, int size);
+    
+    /**
+     * Search tasks by the words of their title and description.
+     * 
+     * @param query Words that the tasks must all contain
+     * @param size Maximum number of tasks to return
+     * @return The matching tasks with their assignee, best matches first
+     */
+    List<TaskSearchResult> searchTasks(String query, int size);
+    
+    /**
+     * Get the number of tasks and their summed time estimate, per status, assignee and priority.
+     * 
+     * @return The statistics of the board
+     */
+    TaskStats getTaskStats();
     
     /**
      * Estimate the time required to complete a task.
@@ -84,4 +193,15 @@ public interface TaskService {
      * @return Estimated time in hours
      */
     double estimateTaskTime(UUID taskId);
+    
+    /**
+     * Estimate the time required to complete a batch of tasks, selected by ID and/or filters.
+     * At least one criterion is required, and at most 10,000 tasks are estimated at once.
+     * 
+     * @param taskIds Task IDs (optional), unknown IDs are ignored
+     * @param assigneeId Restrict to the tasks of this assignee (optional)
+     * @param status Restrict to the tasks in this status (optional)
+     * @return The estimate of each task and their total, in hours
+     */
+    TaskEstimates estimateTasks(Collection<UUID> taskIds, UUID assigneeId, String status);
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.neosoft.practice_software.application.service;
 
+import com.neosoft.practice_software.domain.model.DataVersion;
 import com.neosoft.practice_software.domain.model.User;
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +18,13 @@ public interface UserService {
      */
     List<User> getAllUsers();
     
+    /**
+     * Get the version of the user list, without loading it.
+     * 
+     * @return Version of all users
+     */
+    DataVersion getUsersVersion();
+    
     /**
      * Get a user by ID.
      * 
@@ -45,7 +53,7 @@ public interface UserService {
      * Update a user.
      * 
      * @param id User ID
-     * @param user User data to update
+     * @param user User data to update, with the version it is based on (optional)
      * @return Updated user
      */
     User updateUser(UUID id, User user);
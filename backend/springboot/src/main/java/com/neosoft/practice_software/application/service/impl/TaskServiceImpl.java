@@ -1,15 +1,45 @@
 package com.neosoft.practice_software.application.service.impl;
 
 import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.application.dao.TaskSearchIndex;
+import com.neosoft.practice_software.application.dao.TaskStatsSource;
 import com.neosoft.practice_software.application.dao.UserDAO;
+import com.neosoft.practice_software.application.service.EstimationEngine;
 import com.neosoft.practice_software.application.service.TaskService;
+import com.neosoft.practice_software.domain.model.DataVersion;
 import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChange;
+import com.neosoft.practice_software.domain.model.TaskChangeEvent;
+import com.neosoft.practice_software.domain.model.TaskChangeSet;
+import com.neosoft.practice_software.domain.model.TaskChangeToken;
+import com.neosoft.practice_software.domain.model.TaskCreationResult;
+import com.neosoft.practice_software.domain.model.TaskCursor;
+import com.neosoft.practice_software.domain.model.TaskEstimate;
+import com.neosoft.practice_software.domain.model.TaskEstimates;
+import com.neosoft.practice_software.domain.model.TaskPage;
+import com.neosoft.practice_software.domain.model.TaskSearchHit;
+import com.neosoft.practice_software.domain.model.TaskSearchResult;
+import com.neosoft.practice_software.domain.model.TaskSort;
+import com.neosoft.practice_software.domain.model.TaskStats;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of TaskService.
@@ -17,35 +47,93 @@ import java.util.UUID;
 @Service
 public class TaskServiceImpl implements TaskService {
     
+    static final int MAX_PAGE_SIZE = 500;
+    
+    static final int MAX_BULK_SIZE = 10_000;
+    
+    static final int MAX_CHANGES_SIZE = 1000;
+    
+    static final int MAX_SEARCH_SIZE = 100;
+    
+    /**
+     * Batch size from which estimates are computed on all cores.
+     */
+    static final int PARALLEL_ESTIMATION_SIZE = 2_000;
+    
     private final TaskDAO taskDAO;
     private final UserDAO userDAO;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskStatsSource taskStatsSource;
+    private final EstimationEngine estimationEngine;
     
-    public TaskServiceImpl(TaskDAO taskDAO, UserDAO userDAO) {
+    public TaskServiceImpl(TaskDAO taskDAO, UserDAO userDAO, ApplicationEventPublisher eventPublisher,
+                           TaskSearchIndex taskSearchIndex, TaskStatsSource taskStatsSource,
+                           EstimationEngine estimationEngine) {
         this.taskDAO = taskDAO;
         this.userDAO = userDAO;
+        this.eventPublisher = eventPublisher;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskStatsSource = taskStatsSource;
+        this.estimationEngine = estimationEngine;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> getAllTasks(boolean withAssignee, boolean includeArchived) {
+        return taskDAO.findAll(withAssignee, includeArchived);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage getTasksPage(String cursor, int size, TaskSort sort, boolean withAssignee) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+        if (after != null && after.getSort() != sort) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        
+        // Fetch one extra task to know whether another page follows
+        List<Task> tasks = taskDAO.findPage(after, sort, size + 1, withAssignee);
+        if (tasks.size() <= size) {
+            return new TaskPage(tasks, null);
+        }
+        
+        List<Task> items = new ArrayList<>(tasks.subList(0, size));
+        return new TaskPage(items, TaskCursor.after(items.get(size - 1), sort).encode());
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<Task> getAllTasks() {
-        return taskDAO.findAll();
+    public void exportTasks(Consumer<Task> consumer) {
+        taskDAO.streamAll(consumer);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<Task> getTasksByStatus(String status) {
-        return taskDAO.findByStatus(status);
+    public List<Task> getTasksByStatus(String status, boolean withAssignee, boolean includeArchived) {
+        return taskDAO.findByStatus(requireStatus(status), withAssignee, includeArchived);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<Task> getTasksByAssignee(UUID assigneeId) {
+    public List<Task> getTasksByAssignee(UUID assigneeId, boolean withAssignee, boolean includeArchived) {
         // Verify that the user exists
         if (!userDAO.existsById(assigneeId)) {
             throw new IllegalArgumentException("User not found with ID: " + assigneeId);
         }
         
-        return taskDAO.findByAssigneeId(assigneeId);
+        return taskDAO.findByAssigneeId(assigneeId, withAssignee, includeArchived);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public DataVersion getTasksVersion(boolean withAssignee, boolean includeArchived) {
+        DataVersion version = taskDAO.getDataVersion(includeArchived);
+        return withAssignee ? version.combine(userDAO.getDataVersion()) : version;
     }
     
     @Override
@@ -72,7 +160,60 @@ public class TaskServiceImpl implements TaskService {
             throw new IllegalArgumentException("A task with this title already exists for this user");
         }
         
-        return taskDAO.save(task);
+        Task created = taskDAO.save(task);
+        eventPublisher.publishEvent(TaskChangeEvent.created(created));
+        return created;
+    }
+    
+    @Override
+    @Transactional
+    public List<TaskCreationResult> createTasks(List<Task> tasks) {
+        if (tasks.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Bulk creation is limited to " + MAX_BULK_SIZE + " tasks");
+        }
+        
+        // Load the existing assignees and their clashing titles in two queries instead of two per task
+        Set<UUID> assigneeIds = new HashSet<>();
+        Set<String> titles = new HashSet<>();
+        for (Task task : tasks) {
+            if (task.getAssigneeId() != null) {
+                assigneeIds.add(task.getAssigneeId());
+            }
+            if (task.getTitle() != null) {
+                titles.add(task.getTitle());
+            }
+        }
+        Set<UUID> existingAssignees = assigneeIds.isEmpty() ? Set.of() : userDAO.findExistingIds(assigneeIds);
+        Map<UUID, Set<String>> usedTitles = taskDAO.findTitlesByAssignees(existingAssignees, titles);
+        
+        TaskCreationResult[] results = new TaskCreationResult[tasks.size()];
+        List<Task> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            String error = validateNewTask(task, existingAssignees, usedTitles);
+            if (error != null) {
+                results[i] = TaskCreationResult.rejected(i, error);
+                continue;
+            }
+            
+            // Reserve the title so that duplicates within the batch are rejected too
+            if (task.getAssigneeId() != null) {
+                usedTitles.computeIfAbsent(task.getAssigneeId(), id -> new HashSet<>()).add(task.getTitle());
+            }
+            task.setId(null);
+            accepted.add(task);
+            acceptedIndexes.add(i);
+        }
+        
+        List<Task> saved = taskDAO.saveAll(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = TaskCreationResult.created(index, saved.get(i));
+            eventPublisher.publishEvent(TaskChangeEvent.created(saved.get(i)));
+        }
+        
+        return List.of(results);
     }
     
     @Override
@@ -81,10 +222,9 @@ public class TaskServiceImpl implements TaskService {
         // Ensure the ID is set to the path ID
         task.setId(id);
         
-        // Check if task exists
-        if (!taskDAO.existsById(id)) {
-            throw new IllegalArgumentException("Task not found with ID: " + id);
-        }
+        // Load the task once, the update below reuses it from the persistence context
+        Task originalTask = taskDAO.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + id));
         
         // Verify that the assignee exists if provided
         UUID assigneeId = task.getAssigneeId();
@@ -92,28 +232,31 @@ public class TaskServiceImpl implements TaskService {
             throw new IllegalArgumentException("Assignee not found with ID: " + assigneeId);
         }
         
-        // Get the original task to check if title or assignee changed
-        Optional<Task> originalTaskOpt = taskDAO.findById(id);
-        if (originalTaskOpt.isPresent()) {
-            Task originalTask = originalTaskOpt.get();
-            
-            // Check for title uniqueness per assignee if title or assignee changed
-            if (assigneeId != null && task.getTitle() != null && 
-                (assigneeId != originalTask.getAssigneeId() || !task.getTitle().equals(originalTask.getTitle())) &&
-                taskDAO.existsByTitleAndAssigneeId(task.getTitle(), assigneeId)) {
-                throw new IllegalArgumentException("A task with this title already exists for this user");
-            }
+        // Check for title uniqueness per assignee if title or assignee changed
+        if (assigneeId != null && task.getTitle() != null && 
+            (!assigneeId.equals(originalTask.getAssigneeId()) || !task.getTitle().equals(originalTask.getTitle())) &&
+            taskDAO.existsByTitleAndAssigneeId(task.getTitle(), assigneeId)) {
+            throw new IllegalArgumentException("A task with this title already exists for this user");
         }
         
-        return taskDAO.update(task);
+        // Publish only the fields that the update actually changed
+        Map<String, Object> before = editableFields(originalTask);
+        Task updated = taskDAO.update(task);
+        Map<String, Object> changes = editableFields(updated);
+        changes.entrySet().removeIf(field -> Objects.equals(field.getValue(), before.get(field.getKey())));
+        publishChange(TaskChangeEvent.Type.UPDATED, updated, changes);
+        return updated;
     }
     
     @Override
     @Transactional
-    public Task assignTask(UUID taskId, UUID assigneeId) {
+    public Task assignTask(UUID taskId, UUID assigneeId, Long expectedVersion) {
         // Get the task
         Task task = taskDAO.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + taskId));
+        if (expectedVersion != null) {
+            task.setVersion(expectedVersion);
+        }
         
         // Verify that the assignee exists if provided
         if (assigneeId != null && !userDAO.existsById(assigneeId)) {
@@ -130,25 +273,148 @@ public class TaskServiceImpl implements TaskService {
         // Set the new assignee
         task.setAssigneeId(assigneeId);
         
-        return taskDAO.update(task);
+        Task updated = taskDAO.update(task);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("assigneeId", updated.getAssigneeId());
+        publishChange(TaskChangeEvent.Type.ASSIGNED, updated, changes);
+        return updated;
     }
     
     @Override
     @Transactional
-    public Task updateTaskStatus(UUID taskId, String status) {
+    public Task updateTaskStatus(UUID taskId, String status, Long expectedVersion) {
         // Get the task
         Task task = taskDAO.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + taskId));
-        
-        // Validate status (should be done with an enum in a real application)
-        if (!isValidStatus(status)) {
-            throw new IllegalArgumentException("Invalid status: " + status);
+        if (expectedVersion != null) {
+            task.setVersion(expectedVersion);
         }
         
         // Set the new status
-        task.setStatus(status);
+        task.setStatus(requireStatus(status));
+        
+        Task updated = taskDAO.update(task);
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("status", updated.getStatus());
+        publishChange(TaskChangeEvent.Type.STATUS_CHANGED, updated, changes);
+        return updated;
+    }
+    
+    @Override
+    @Transactional
+    public int updateTasksStatus(String from, String to, UUID assigneeId) {
+        TaskStatus fromStatus = requireStatus(from);
+        TaskStatus toStatus = requireStatus(to);
+        if (assigneeId != null && !userDAO.existsById(assigneeId)) {
+            throw new IllegalArgumentException("User not found with ID: " + assigneeId);
+        }
+        
+        int updated = taskDAO.updateStatus(fromStatus, toStatus, assigneeId);
+        if (updated > 0) {
+            // The updated IDs are unknown: clients reload the tasks matching the filter
+            Map<String, Object> changes = new LinkedHashMap<>();
+            changes.put("from", fromStatus);
+            changes.put("status", toStatus);
+            changes.put("assigneeId", assigneeId);
+            eventPublisher.publishEvent(TaskChangeEvent.bulkStatusChanged(List.of(), changes));
+        }
+        return updated;
+    }
+    
+    @Override
+    @Transactional
+    public int updateTasksStatus(Collection<UUID> taskIds, String to) {
+        TaskStatus toStatus = requireStatus(to);
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        
+        int updated = taskDAO.updateStatusByIds(taskIds, toStatus);
+        if (updated > 0) {
+            Map<String, Object> changes = new LinkedHashMap<>();
+            changes.put("status", toStatus);
+            eventPublisher.publishEvent(TaskChangeEvent.bulkStatusChanged(taskIds, changes));
+        }
+        return updated;
+    }
+    
+    @Override
+    @Transactional
+    public boolean deleteTask(UUID id) {
+        boolean deleted = taskDAO.deleteById(id);
+        if (deleted) {
+            eventPublisher.publishEvent(TaskChangeEvent.deleted(id));
+        }
+        return deleted;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangeSet getTaskChanges(String since, int size) {
+        if (size < 1 || size > MAX_CHANGES_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_CHANGES_SIZE);
+        }
+        
+        TaskChangeToken after = since == null || since.isBlank() ? null : TaskChangeToken.decode(since);
+        // Read the watermark first: every change up to it is committed before the query below starts
+        long watermark = taskDAO.getChangeWatermark();
+        // A first synchronization has no deleted task to forget
+        List<TaskChange> changes = taskDAO.findChanges(after != null ? after : TaskChangeToken.START, watermark,
+                size + 1, after != null);
+        
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+        List<Task> changed = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        for (TaskChange change : changes) {
+            if (change.isDeletion()) {
+                deleted.add(change.taskId());
+            } else {
+                changed.add(change.task());
+            }
+        }
+        
+        // The token only points to stored changes: numbers allocated by rolled back writes may be reused
+        TaskChangeToken next = changes.isEmpty()
+                ? (after != null ? after : TaskChangeToken.START)
+                : TaskChangeToken.after(changes.get(changes.size() - 1));
+        return new TaskChangeSet(changed, deleted, next.encode(), hasMore);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSearchResult> searchTasks(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_SEARCH_SIZE);
+        }
+        
+        List<TaskSearchHit> hits = taskSearchIndex.search(query, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
         
-        return taskDAO.update(task);
+        // Load the tasks in one query and keep the rank order; the index may still return a task just deleted
+        Map<UUID, Task> tasksById = taskDAO.findByIds(hits.stream().map(TaskSearchHit::taskId).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskSearchResult> results = new ArrayList<>(hits.size());
+        for (TaskSearchHit hit : hits) {
+            Task task = tasksById.get(hit.taskId());
+            if (task != null) {
+                results.add(new TaskSearchResult(task, hit.score()));
+            }
+        }
+        return results;
+    }
+    
+    @Override
+    public TaskStats getTaskStats() {
+        // Maintained from the task changes, nothing is read from the database
+        return taskStatsSource.getStats();
     }
     
     @Override
@@ -158,48 +424,115 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskDAO.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + taskId));
         
-        // Simple estimation logic based on task properties
-        double baseHours = 2.0; // Default base hours
-        
-        // Adjust based on priority
-        if (task.getPriority() != null) {
-            switch (task.getPriority()) {
-                case "HIGH":
-                    baseHours *= 1.5;
-                    break;
-                case "LOW":
-                    baseHours *= 0.75;
-                    break;
-                default: // MEDIUM or other
-                    // Keep base hours
-                    break;
-            }
+        return estimationEngine.estimate(task);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public TaskEstimates estimateTasks(Collection<UUID> taskIds, UUID assigneeId, String status) {
+        if (taskIds != null && taskIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Estimation is limited to " + MAX_BULK_SIZE + " task IDs");
+        }
+        TaskStatus statusFilter = TaskStatus.of(status);
+        if (taskIds == null && assigneeId == null && statusFilter == null) {
+            throw new IllegalArgumentException("Estimation requires task IDs, an assignee or a status");
+        }
+        if (assigneeId != null && !userDAO.existsById(assigneeId)) {
+            throw new IllegalArgumentException("User not found with ID: " + assigneeId);
+        }
+        if (taskIds != null && taskIds.isEmpty()) {
+            return new TaskEstimates(List.of(), 0);
         }
         
-        // Adjust based on description length (if available)
-        if (task.getDescription() != null && !task.getDescription().isEmpty()) {
-            // Longer descriptions might indicate more complex tasks
-            int wordCount = task.getDescription().split("\\s+").length;
-            baseHours += (wordCount / 50) * 0.5; // Add 0.5 hours per 50 words
+        // One query for the whole batch, reading only the estimated columns,
+        // with one more row than allowed to detect a filter matching too many tasks
+        List<Task> tasks = taskDAO.findForEstimation(taskIds, assigneeId, statusFilter, MAX_BULK_SIZE + 1);
+        if (tasks.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Estimation is limited to " + MAX_BULK_SIZE
+                    + " tasks, narrow the filter");
         }
+        // Estimating is CPU only, large batches are split across the cores
+        Stream<Task> stream = tasks.size() >= PARALLEL_ESTIMATION_SIZE ? tasks.parallelStream() : tasks.stream();
+        List<TaskEstimate> estimates = stream
+                .map(task -> new TaskEstimate(task.getId(), estimationEngine.estimate(task)))
+                .toList();
         
-        // Adjust based on status
-        if ("IN_PROGRESS".equals(task.getStatus())) {
-            baseHours *= 0.7; // 30% already done
-        } else if ("DONE".equals(task.getStatus())) {
-            baseHours = 0; // Already completed
+        double totalHours = 0;
+        for (TaskEstimate estimate : estimates) {
+            totalHours += estimate.hours();
+        }
+        return new TaskEstimates(estimates, totalHours);
+    }
+    
+    /**
+     * Validate a task of a bulk creation against the preloaded assignees and titles.
+     * 
+     * @param task Task to validate
+     * @param existingAssignees IDs of the existing assignees
+     * @param usedTitles Titles already used per assignee
+     * @return The rejection reason, or null if the task is valid
+     */
+    private String validateNewTask(Task task, Set<UUID> existingAssignees, Map<UUID, Set<String>> usedTitles) {
+        if (task.getTitle() == null || task.getTitle().isBlank()) {
+            return "Title is required";
+        }
+        if (task.getStatus() == null) {
+            return "Status is required";
         }
         
-        return Math.max(0.25, baseHours); // Minimum 15 minutes (0.25 hours)
+        UUID assigneeId = task.getAssigneeId();
+        if (assigneeId == null) {
+            return null;
+        }
+        if (!existingAssignees.contains(assigneeId)) {
+            return "Assignee not found with ID: " + assigneeId;
+        }
+        if (usedTitles.getOrDefault(assigneeId, Set.of()).contains(task.getTitle())) {
+            return "A task with this title already exists for this user";
+        }
+        return null;
+    }
+    
+    /**
+     * Publish a change of a single task, with its new version so that clients can send it back in If-Match.
+     * 
+     * @param type Kind of change
+     * @param task The updated task
+     * @param changes New values of the changed fields
+     */
+    private void publishChange(TaskChangeEvent.Type type, Task task, Map<String, Object> changes) {
+        changes.put("version", task.getVersion());
+        changes.put("updatedAt", task.getUpdatedAt());
+        eventPublisher.publishEvent(TaskChangeEvent.changed(type, task.getId(), changes));
+    }
+    
+    /**
+     * Fields of a task that an update can change.
+     * 
+     * @param task The task
+     * @return The field values by name, null values included
+     */
+    private static Map<String, Object> editableFields(Task task) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("description", task.getDescription());
+        fields.put("status", task.getStatus());
+        fields.put("priority", task.getPriority());
+        fields.put("dueDate", task.getDueDate());
+        fields.put("assigneeId", task.getAssigneeId());
+        return fields;
     }
     
     /**
-     * Validate task status.
+     * Resolve a required task status.
      * 
-     * @param status Status to validate
-     * @return true if the status is valid
+     * @param status Name of the status
+     * @return The status
      */
-    private boolean isValidStatus(String status) {
-        return "TODO".equals(status) || "IN_PROGRESS".equals(status) || "DONE".equals(status);
+    private static TaskStatus requireStatus(String status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Invalid status: null");
+        }
+        return TaskStatus.of(status);
     }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.neosoft.practice_software.application.service.impl;
 
 import com.neosoft.practice_software.application.dao.UserDAO;
 import com.neosoft.practice_software.application.service.UserService;
+import com.neosoft.practice_software.domain.model.DataVersion;
 import com.neosoft.practice_software.domain.model.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +29,12 @@ public class UserServiceImpl implements UserService {
         return userDAO.findAll();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public DataVersion getUsersVersion() {
+        return userDAO.getDataVersion();
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<User> getUserById(UUID id) {
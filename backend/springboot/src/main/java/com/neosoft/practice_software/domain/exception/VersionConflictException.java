@@ -0,0 +1,10 @@
+package com.neosoft.practice_software.domain.exception;
+
+/**
+ * Thrown when a write is based on a version of the data that is no longer the current one.
+ */
+public class VersionConflictException extends FunctionalException {
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cheap fingerprint of a set of rows: their count and their latest update date.
+ * Any insert, update or delete changes at least one of them.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DataVersion {
+    private final long count;
+    private final LocalDateTime lastUpdatedAt;
+    
+    /**
+     * Combine with the version of other rows included in the same representation.
+     * 
+     * @param other The other version
+     * @return The combined version
+     */
+    public DataVersion combine(DataVersion other) {
+        LocalDateTime last = lastUpdatedAt;
+        if (last == null || (other.lastUpdatedAt != null && other.lastUpdatedAt.isAfter(last))) {
+            last = other.lastUpdatedAt;
+        }
+        return new DataVersion(count + other.count, last);
+    }
+}
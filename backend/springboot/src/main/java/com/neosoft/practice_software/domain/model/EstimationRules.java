@@ -0,0 +1,50 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.Map;
+
+/**
+ * Rule set of the task time estimates:
+ * {@code max(minimumHours, (baseHours * priorityFactor + (words / wordsPerStep) * hoursPerStep) * statusFactor)},
+ * where the factors of the priorities and statuses that are not listed are 1.
+ *
+ * @param baseHours       Hours of a task before adjustments
+ * @param minimumHours    Lowest estimate
+ * @param priorityFactors Factor applied to the base hours, by priority
+ * @param statusFactors   Factor applied to the adjusted hours, by status (0 for done tasks)
+ * @param wordsPerStep    Number of description words adding a step of hours
+ * @param hoursPerStep    Hours added per full step of description words
+ */
+public record EstimationRules(double baseHours, double minimumHours, Map<TaskPriority, Double> priorityFactors,
+                              Map<TaskStatus, Double> statusFactors, int wordsPerStep, double hoursPerStep) {
+    
+    /**
+     * Original rules: high priority +50%, low priority -25%, in progress 30% done, 0.5 hour per 50 words,
+     * 15 minutes minimum.
+     */
+    public static final EstimationRules DEFAULT = new EstimationRules(2.0, 0.25,
+            Map.of(TaskPriority.HIGH, 1.5, TaskPriority.LOW, 0.75),
+            Map.of(TaskStatus.IN_PROGRESS, 0.7, TaskStatus.DONE, 0.0), 50, 0.5);
+    
+    public EstimationRules {
+        if (baseHours < 0 || minimumHours < 0 || hoursPerStep < 0) {
+            throw new IllegalArgumentException("Estimation hours must not be negative");
+        }
+        if (wordsPerStep < 1) {
+            throw new IllegalArgumentException("Words per step must be positive");
+        }
+        priorityFactors = copyFactors(priorityFactors);
+        statusFactors = copyFactors(statusFactors);
+    }
+    
+    private static <K extends Enum<K>> Map<K, Double> copyFactors(Map<K, Double> factors) {
+        if (factors == null) {
+            return Map.of();
+        }
+        factors.forEach((key, factor) -> {
+            if (key == null || factor == null || factor < 0) {
+                throw new IllegalArgumentException("Invalid estimation factor for " + key + ": " + factor);
+            }
+        });
+        return Map.copyOf(factors);
+    }
+}
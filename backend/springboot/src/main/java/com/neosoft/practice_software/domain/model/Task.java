@@ -17,11 +17,12 @@ public class Task {
     private UUID id;
     private String title;
     private String description;
-    private String status;
-    private String priority;
+    private TaskStatus status;
+    private TaskPriority priority;
     private LocalDate dueDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private UUID assigneeId;
     private User assignee;
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Last change of a task in the change sequence: its current state, or its deletion.
+ *
+ * @param changeSeq Change sequence number of the write
+ * @param taskId    ID of the task
+ * @param task      The task without assignee, or null if it was deleted
+ */
+public record TaskChange(long changeSeq, UUID taskId, Task task) {
+
+    /**
+     * Order of the change sequence: by sequence number, then by task ID compared as unsigned bytes,
+     * like the uuid types of H2 and Postgres.
+     */
+    public static final Comparator<TaskChange> ORDER = Comparator.comparingLong(TaskChange::changeSeq)
+            .thenComparing(TaskChange::taskId, (a, b) -> a.getMostSignificantBits() != b.getMostSignificantBits()
+                    ? Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits())
+                    : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits()));
+
+    public boolean isDeletion() {
+        return task == null;
+    }
+}
@@ -0,0 +1,55 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Change made to tasks by a committed transaction, published to the clients of the change feed.
+ * 
+ * @param type    Kind of change
+ * @param taskIds IDs of the changed tasks, empty when they are not known (status change by filter)
+ * @param task    The created or restored task, or null
+ * @param changes New values of the changed fields, by field name
+ */
+public record TaskChangeEvent(Type type, List<UUID> taskIds, Task task, Map<String, Object> changes) {
+    
+    /**
+     * Kind of change.
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        ASSIGNED,
+        BULK_STATUS_CHANGED,
+        DELETED,
+        ARCHIVED,
+        RESTORED
+    }
+    
+    public static TaskChangeEvent created(Task task) {
+        return new TaskChangeEvent(Type.CREATED, List.of(task.getId()), task, Map.of());
+    }
+    
+    public static TaskChangeEvent changed(Type type, UUID taskId, Map<String, Object> changes) {
+        return new TaskChangeEvent(type, List.of(taskId), null, changes);
+    }
+    
+    public static TaskChangeEvent deleted(UUID taskId) {
+        return new TaskChangeEvent(Type.DELETED, List.of(taskId), null, Map.of());
+    }
+    
+    public static TaskChangeEvent archived(Collection<UUID> taskIds) {
+        return new TaskChangeEvent(Type.ARCHIVED, List.copyOf(taskIds), null, Map.of());
+    }
+    
+    public static TaskChangeEvent restored(Task task) {
+        return new TaskChangeEvent(Type.RESTORED, List.of(task.getId()), task, Map.of());
+    }
+    
+    public static TaskChangeEvent bulkStatusChanged(Collection<UUID> taskIds, Map<String, Object> changes) {
+        return new TaskChangeEvent(Type.BULK_STATUS_CHANGED, List.copyOf(taskIds), null, changes);
+    }
+}
@@ -0,0 +1,20 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tasks changed and deleted since a change token, with the token to resume from.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeSet {
+    private List<Task> changed;
+    private List<UUID> deleted;
+    private String token;
+    private boolean hasMore;
+}
@@ -0,0 +1,63 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Position in the change sequence of the tasks, returned to synchronizing clients.
+ * Clients only see it as an opaque string, see {@link #encode()}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskChangeToken {
+
+    /**
+     * Position before any change.
+     */
+    public static final TaskChangeToken START = new TaskChangeToken(-1L, new UUID(-1L, -1L));
+
+    private final long changeSeq;
+    private final UUID id;
+
+    /**
+     * Build the token pointing right after the given change.
+     *
+     * @param change Last change returned to the client
+     * @return The token
+     */
+    public static TaskChangeToken after(TaskChange change) {
+        return new TaskChangeToken(change.changeSeq(), change.taskId());
+    }
+
+    /**
+     * Encode the token as an opaque URL-safe string.
+     *
+     * @return The encoded token
+     */
+    public String encode() {
+        String raw = changeSeq + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token previously returned by {@link #encode()}.
+     *
+     * @param token The encoded token
+     * @return The decoded token
+     */
+    public static TaskChangeToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid token: " + token);
+            }
+            return new TaskChangeToken(Long.parseLong(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid token: " + token, e);
+        }
+    }
+}
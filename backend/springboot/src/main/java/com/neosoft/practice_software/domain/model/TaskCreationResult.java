@@ -0,0 +1,26 @@
+package com.neosoft.practice_software.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of the creation of one task within a bulk creation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCreationResult {
+    private int index;
+    private boolean created;
+    private Task task;
+    private String error;
+
+    public static TaskCreationResult created(int index, Task task) {
+        return new TaskCreationResult(index, true, task, null);
+    }
+
+    public static TaskCreationResult rejected(int index, String error) {
+        return new TaskCreationResult(index, false, null, error);
+    }
+}
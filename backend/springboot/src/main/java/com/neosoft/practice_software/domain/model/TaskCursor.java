@@ -0,0 +1,61 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keyset position in a sorted list of tasks.
+ * Clients only see it as an opaque string, see {@link #encode()}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskCursor {
+    private final TaskSort sort;
+    private final LocalDateTime sortValue;
+    private final UUID id;
+
+    /**
+     * Build the cursor pointing right after the given task.
+     *
+     * @param task Last task of the current page
+     * @param sort Sort of the page
+     * @return The cursor
+     */
+    public static TaskCursor after(Task task, TaskSort sort) {
+        return new TaskCursor(sort, sort.sortValueOf(task), task.getId());
+    }
+
+    /**
+     * Encode the cursor as an opaque URL-safe string.
+     *
+     * @return The encoded cursor
+     */
+    public String encode() {
+        String raw = sort.name() + "|" + sortValue + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously returned by {@link #encode()}.
+     *
+     * @param cursor The encoded cursor
+     * @return The decoded cursor
+     */
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new TaskCursor(TaskSort.valueOf(parts[0]), LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Time estimate of a task.
+ *
+ * @param taskId ID of the task
+ * @param hours  Estimated time left, in hours
+ */
+public record TaskEstimate(UUID taskId, double hours) {
+}
@@ -0,0 +1,12 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.List;
+
+/**
+ * Time estimates of a batch of tasks.
+ *
+ * @param tasks      Estimate of each task
+ * @param totalHours Sum of the estimates, in hours
+ */
+public record TaskEstimates(List<TaskEstimate> tasks, double totalHours) {
+}
@@ -0,0 +1,41 @@
+package com.neosoft.practice_software.domain.model;
+
+/**
+ * Inputs of the time estimates computed from the task fields, see {@link EstimationRules}.
+ */
+public final class TaskEstimation {
+    
+    private TaskEstimation() {
+    }
+    
+    /**
+     * Count the words of a task description.
+     * 
+     * @param description Task description, may be null
+     * @return Number of words
+     */
+    public static int countWords(String description) {
+        if (description == null) {
+            return 0;
+        }
+        
+        // Runs of non-whitespace characters, counted in place: no regex nor array per call
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < description.length(); i++) {
+            boolean whitespace = isWhitespace(description.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+    
+    /**
+     * Same characters as \s in a regex.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,17 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of tasks with the cursor of the following page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPage {
+    private List<Task> items;
+    private String nextCursor;
+}
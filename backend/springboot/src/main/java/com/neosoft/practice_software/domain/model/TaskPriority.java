@@ -0,0 +1,59 @@
+package com.neosoft.practice_software.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Priority of a task.
+ * Stored as its code, which must never change once rows use it.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskPriority {
+    LOW((short) 1),
+    MEDIUM((short) 2),
+    HIGH((short) 3);
+    
+    private static final TaskPriority[] BY_CODE = byCode(values());
+    
+    private final short code;
+    
+    /**
+     * Resolve a priority from its API representation.
+     * 
+     * @param name Name of the priority, may be null
+     * @return The matching priority, or null if the name is null
+     */
+    public static TaskPriority of(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (TaskPriority priority : values()) {
+            if (priority.name().equals(name)) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Invalid priority: " + name);
+    }
+    
+    /**
+     * Resolve a priority from its stored code.
+     * 
+     * @param code Stored code
+     * @return The matching priority
+     */
+    public static TaskPriority fromCode(short code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Invalid priority code: " + code);
+        }
+        return BY_CODE[code];
+    }
+    
+    private static TaskPriority[] byCode(TaskPriority[] priorities) {
+        TaskPriority[] byCode = new TaskPriority[priorities.length + 1];
+        for (TaskPriority priority : priorities) {
+            byCode[priority.code] = priority;
+        }
+        return byCode;
+    }
+}
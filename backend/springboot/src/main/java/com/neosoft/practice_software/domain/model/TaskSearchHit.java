@@ -0,0 +1,12 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Task matching a full-text search.
+ *
+ * @param taskId ID of the task
+ * @param score  Relevance of the task, higher is better, only comparable within the same search
+ */
+public record TaskSearchHit(UUID taskId, double score) {
+}
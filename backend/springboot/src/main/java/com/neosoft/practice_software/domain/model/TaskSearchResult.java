@@ -0,0 +1,10 @@
+package com.neosoft.practice_software.domain.model;
+
+/**
+ * Task found by a full-text search, with its relevance.
+ *
+ * @param task  The task with its assignee
+ * @param score Relevance of the task, higher is better, only comparable within the same search
+ */
+public record TaskSearchResult(Task task, double score) {
+}
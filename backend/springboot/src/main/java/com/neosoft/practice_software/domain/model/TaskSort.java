@@ -0,0 +1,50 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Supported orderings for task pages.
+ * Every ordering is completed by the task ID so that it stays stable when timestamps are equal.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskSort {
+    CREATED_AT_ASC("createdAt", true),
+    CREATED_AT_DESC("createdAt", false),
+    UPDATED_AT_ASC("updatedAt", true),
+    UPDATED_AT_DESC("updatedAt", false);
+
+    private final String property;
+    private final boolean ascending;
+
+    /**
+     * Resolve a sort from its API representation.
+     *
+     * @param property Sorted property (createdAt or updatedAt)
+     * @param direction Sort direction (asc or desc)
+     * @return The matching sort
+     */
+    public static TaskSort of(String property, String direction) {
+        if ("asc".equalsIgnoreCase(direction) || "desc".equalsIgnoreCase(direction)) {
+            boolean ascending = "asc".equalsIgnoreCase(direction);
+            for (TaskSort sort : values()) {
+                if (sort.property.equals(property) && sort.ascending == ascending) {
+                    return sort;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid sort: " + property + "," + direction);
+    }
+
+    /**
+     * Read the sorted value of a task.
+     *
+     * @param task The task
+     * @return The value of the sorted property
+     */
+    public LocalDateTime sortValueOf(Task task) {
+        return "createdAt".equals(property) ? task.getCreatedAt() : task.getUpdatedAt();
+    }
+}
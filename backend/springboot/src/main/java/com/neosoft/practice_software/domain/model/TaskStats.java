@@ -0,0 +1,16 @@
+package com.neosoft.practice_software.domain.model;
+
+import java.util.List;
+
+/**
+ * Counts and estimated hours of the tasks of the board, in total and per group.
+ *
+ * @param count          Number of tasks
+ * @param estimatedHours Sum of the estimates of the tasks, with the current {@link EstimationRules}
+ * @param byStatus       Totals per status
+ * @param byAssignee     Totals per assignee ID, the unassigned tasks under a null key
+ * @param byPriority     Totals per priority, the tasks without priority under a null key
+ */
+public record TaskStats(long count, double estimatedHours, List<TaskStatsGroup> byStatus,
+                        List<TaskStatsGroup> byAssignee, List<TaskStatsGroup> byPriority) {
+}
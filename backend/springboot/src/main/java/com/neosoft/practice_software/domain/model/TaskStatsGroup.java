@@ -0,0 +1,11 @@
+package com.neosoft.practice_software.domain.model;
+
+/**
+ * Count and estimated hours of the tasks sharing a status, an assignee or a priority.
+ *
+ * @param key            Status, assignee ID or priority, null for the tasks without one
+ * @param count          Number of tasks
+ * @param estimatedHours Sum of the estimates of the tasks
+ */
+public record TaskStatsGroup(String key, long count, double estimatedHours) {
+}
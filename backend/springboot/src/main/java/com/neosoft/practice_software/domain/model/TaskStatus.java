@@ -0,0 +1,59 @@
+package com.neosoft.practice_software.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Workflow status of a task.
+ * Stored as its code, which must never change once rows use it.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskStatus {
+    TODO((short) 1),
+    IN_PROGRESS((short) 2),
+    DONE((short) 3);
+    
+    private static final TaskStatus[] BY_CODE = byCode(values());
+    
+    private final short code;
+    
+    /**
+     * Resolve a status from its API representation.
+     * 
+     * @param name Name of the status, may be null
+     * @return The matching status, or null if the name is null
+     */
+    public static TaskStatus of(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (TaskStatus status : values()) {
+            if (status.name().equals(name)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Invalid status: " + name);
+    }
+    
+    /**
+     * Resolve a status from its stored code.
+     * 
+     * @param code Stored code
+     * @return The matching status
+     */
+    public static TaskStatus fromCode(short code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Invalid status code: " + code);
+        }
+        return BY_CODE[code];
+    }
+    
+    private static TaskStatus[] byCode(TaskStatus[] statuses) {
+        TaskStatus[] byCode = new TaskStatus[statuses.length + 1];
+        for (TaskStatus status : statuses) {
+            byCode[status.code] = status;
+        }
+        return byCode;
+    }
+}
@@ -0,0 +1,85 @@
+package com.neosoft.practice_software.infrastructure.api.controller;
+
+import com.neosoft.practice_software.domain.exception.VersionConflictException;
+import com.neosoft.practice_software.domain.model.DataVersion;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.User;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds strong ETags from data versions, so that conditional GETs of lists are answered before loading rows.
+ * Single tasks and users are tagged with their optimistic locking version, which If-Match sends back on writes.
+ */
+final class ETags {
+    
+    static final String TASK = "task";
+    static final String USER = "user";
+    
+    private static final Pattern VERSIONED_TAG = Pattern.compile("\"(task|user)-(\\d+)(-[^\"]*)?\"");
+    
+    private ETags() {
+    }
+    
+    /**
+     * Build the ETag of a representation.
+     * 
+     * @param representation Name of the representation, distinguishing the variants of a same resource
+     * @param version Version of the data it contains
+     * @return The quoted ETag
+     */
+    static String of(String representation, DataVersion version) {
+        return "\"" + representation + "-" + Long.toHexString(version.getCount())
+                + "-" + Long.toHexString(toEpochNanos(version.getLastUpdatedAt())) + "\"";
+    }
+    
+    /**
+     * Build the ETag of a task from the versions of the task and of its embedded assignee.
+     * 
+     * @param task The task with its assignee, as serialized in the response
+     * @return The quoted ETag
+     */
+    static String ofTask(Task task) {
+        Long assigneeVersion = task.getAssignee() == null ? null : task.getAssignee().getVersion();
+        return "\"" + TASK + "-" + task.getVersion() + "-" + assigneeVersion + "\"";
+    }
+    
+    /**
+     * Build the ETag of a user from its version.
+     * 
+     * @param user The user
+     * @return The quoted ETag
+     */
+    static String ofUser(User user) {
+        return "\"" + USER + "-" + user.getVersion() + "\"";
+    }
+    
+    /**
+     * Read the version a write is based on from an If-Match header.
+     * 
+     * @param ifMatch Header value, may be null
+     * @param kind Kind of the written resource (task or user)
+     * @return The expected version, or null if the write is unconditional
+     */
+    static Long expectedVersion(String ifMatch, String kind) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        Matcher matcher = VERSIONED_TAG.matcher(ifMatch.trim());
+        if (!matcher.matches() || !matcher.group(1).equals(kind)) {
+            // Weak or foreign tags never match strongly
+            throw new VersionConflictException("If-Match does not match the current version: " + ifMatch);
+        }
+        return Long.valueOf(matcher.group(2));
+    }
+    
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+}
@@ -0,0 +1,42 @@
+package com.neosoft.practice_software.infrastructure.api.controller;
+
+import com.neosoft.practice_software.application.service.EstimationEngine;
+import com.neosoft.practice_software.infrastructure.api.dto.EstimationRulesDTO;
+import com.neosoft.practice_software.infrastructure.api.mapper.EstimationRulesDTOMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the rules of the task time estimates.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/estimation")
+public class EstimationController {
+    
+    private final EstimationEngine estimationEngine;
+    private final EstimationRulesDTOMapper estimationRulesDTOMapper;
+    
+    public EstimationController(EstimationEngine estimationEngine, EstimationRulesDTOMapper estimationRulesDTOMapper) {
+        this.estimationEngine = estimationEngine;
+        this.estimationRulesDTOMapper = estimationRulesDTOMapper;
+    }
+    
+    @GetMapping("/rules")
+    public ResponseEntity<EstimationRulesDTO> getRules() {
+        return ResponseEntity.ok(estimationRulesDTOMapper.toDTO(estimationEngine.getRules()));
+    }
+    
+    /**
+     * Replace the rules without restart. Estimates running meanwhile complete with the previous rules.
+     * 
+     * @param rulesDTO The new rules
+     * @return The rules applied
+     */
+    @PutMapping("/rules")
+    public ResponseEntity<EstimationRulesDTO> updateRules(@RequestBody EstimationRulesDTO rulesDTO) {
+        estimationEngine.reload(estimationRulesDTOMapper.toRules(rulesDTO));
+        return ResponseEntity.ok(estimationRulesDTOMapper.toDTO(estimationEngine.getRules()));
+    }
+}
@@ -2,17 +2,25 @@ package com.neosoft.practice_software.infrastructure.api.controller;
 
 import com.neosoft.practice_software.domain.exception.FunctionalException;
 import com.neosoft.practice_software.domain.exception.TechnicalException;
+import com.neosoft.practice_software.domain.exception.VersionConflictException;
 import com.neosoft.practice_software.infrastructure.api.dto.ErrorResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.util.DisconnectedClientHelper;
 
 import java.util.UUID;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(FunctionalException.class)
@@ -28,6 +36,33 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(VersionConflictException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            UUID.randomUUID(),
+            HttpStatus.PRECONDITION_FAILED.value(),
+            "Precondition Failed",
+            ex.getMessage(),
+            request.getDescription(false)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex,
+                                                                                 WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            UUID.randomUUID(),
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            "The resource was modified concurrently. Please reload it and try again.",
+            request.getDescription(false)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseBody
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
@@ -54,9 +89,23 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Failures of an asynchronous response (closed event feed, aborted export, timeout): the client is gone
+     * or the response is already a stream, so no error body is written.
+     */
+    @ExceptionHandler({AsyncRequestNotUsableException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<ErrorResponse> handleAsyncRequestException(Exception ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseBody
-    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, WebRequest request) {
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, WebRequest request,
+                                                               HttpServletResponse response) {
+        if (response.isCommitted() || DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            // Headers (and maybe part of the body) are sent, or no one reads the answer
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
         ErrorResponse errorResponse = new ErrorResponse(
             UUID.randomUUID(),
             HttpStatus.INTERNAL_SERVER_ERROR.value(),
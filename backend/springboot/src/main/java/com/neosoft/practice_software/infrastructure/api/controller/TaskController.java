@@ -1,15 +1,39 @@
 package com.neosoft.practice_software.infrastructure.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.neosoft.practice_software.application.service.TaskService;
 import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskCreationResult;
+import com.neosoft.practice_software.domain.model.TaskPage;
+import com.neosoft.practice_software.domain.model.TaskSort;
+import com.neosoft.practice_software.infrastructure.api.dto.BulkUpdateResultDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskChangesDTO;
 import com.neosoft.practice_software.infrastructure.api.dto.CreateTaskDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.EstimateTasksDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskCreationResultDTO;
 import com.neosoft.practice_software.infrastructure.api.dto.TaskDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskEstimatesDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskPageDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskSearchResultDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskStatsDTO;
 import com.neosoft.practice_software.infrastructure.api.dto.UpdateTaskDTO;
 import com.neosoft.practice_software.infrastructure.api.mapper.TaskDTOMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,28 +42,94 @@ import java.util.UUID;
  * REST controller for managing tasks.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/tasks")
 public class TaskController {
     
+    private static final String INCLUDE_ASSIGNEE = "assignee";
+    private static final String INCLUDE_NONE = "none";
+    
     private final TaskService taskService;
     private final TaskDTOMapper taskDTOMapper;
+    private final ObjectMapper objectMapper;
+    private final Duration exportTimeout;
     
-    public TaskController(TaskService taskService, TaskDTOMapper taskDTOMapper) {
+    public TaskController(TaskService taskService, TaskDTOMapper taskDTOMapper, ObjectMapper objectMapper,
+                          @Value("${app.tasks.export.timeout:30m}") Duration exportTimeout) {
         this.taskService = taskService;
         this.taskDTOMapper = taskDTOMapper;
+        this.objectMapper = objectMapper;
+        this.exportTimeout = exportTimeout;
     }
     
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(taskDTOMapper.toDTOs(tasks));
+    public ResponseEntity<List<TaskDTO>> getAllTasks(@RequestParam(defaultValue = INCLUDE_ASSIGNEE) String include,
+                                                     @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                     WebRequest webRequest) {
+        boolean withAssignee = includesAssignee(include);
+        String eTag = ETags.of("tasks-" + include + (includeArchived ? "-archived" : ""),
+                taskService.getTasksVersion(withAssignee, includeArchived));
+        if (webRequest.checkNotModified(eTag)) {
+            // 304 already prepared, the tasks are neither loaded nor serialized
+            return null;
+        }
+        
+        List<Task> tasks = taskService.getAllTasks(withAssignee, includeArchived);
+        return ResponseEntity.ok().eTag(eTag).body(taskDTOMapper.toDTOs(tasks));
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageDTO> getTasksPage(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "50") int size,
+                                                    @RequestParam(defaultValue = "updatedAt") String sort,
+                                                    @RequestParam(defaultValue = "desc") String direction,
+                                                    @RequestParam(defaultValue = INCLUDE_ASSIGNEE) String include) {
+        TaskPage page = taskService.getTasksPage(cursor, size, TaskSort.of(sort, direction), includesAssignee(include));
+        return ResponseEntity.ok(taskDTOMapper.toPageDTO(page));
+    }
+    
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesDTO> getTaskChanges(@RequestParam(required = false) String since,
+                                                         @RequestParam(defaultValue = "500") int size) {
+        return ResponseEntity.ok(taskDTOMapper.toChangesDTO(taskService.getTaskChanges(since, size)));
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskSearchResultDTO>> searchTasks(@RequestParam(defaultValue = "") String q,
+                                                                 @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskDTOMapper.toSearchResultDTOs(taskService.searchTasks(q, size)));
+    }
+    
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDTO> getTaskStats() {
+        return ResponseEntity.ok(taskDTOMapper.toStatsDTO(taskService.getTaskStats()));
+    }
+    
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(WebRequest webRequest) {
+        // Only this request outlives the default async timeout, applied when the streaming starts
+        WebAsyncUtils.getAsyncManager(webRequest).getAsyncWebRequest().setTimeout(exportTimeout.toMillis());
+        ObjectWriter writer = objectMapper.writerFor(TaskDTO.class);
+        StreamingResponseBody body = outputStream -> {
+            taskService.exportTasks(task -> writeLine(outputStream, writer, taskDTOMapper.toDTO(task)));
+            outputStream.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<TaskDTO> getTaskById(@PathVariable UUID id, WebRequest webRequest) {
         Optional<Task> taskOpt = taskService.getTaskById(id);
-        return taskOpt.map(task -> ResponseEntity.ok(taskDTOMapper.toDTO(task)))
-                      .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+        if (taskOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        // Tagged from the served instance, which may come from the task cache
+        Task task = taskOpt.get();
+        String eTag = ETags.ofTask(task);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(taskDTOMapper.toDTO(task));
     }
     
     @PostMapping
@@ -49,23 +139,53 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(taskDTOMapper.toDTO(createdTask));
     }
     
+    @PostMapping("/bulk")
+    public ResponseEntity<List<TaskCreationResultDTO>> createTasks(@RequestBody List<CreateTaskDTO> createTaskDTOs) {
+        List<TaskCreationResult> results = taskService.createTasks(taskDTOMapper.toBOs(createTaskDTOs));
+        return ResponseEntity.ok(taskDTOMapper.toCreationResultDTOs(results));
+    }
+    
     @PutMapping("/{id}")
-    public ResponseEntity<TaskDTO> updateTask(@PathVariable UUID id, @RequestBody UpdateTaskDTO updateTaskDTO) {
+    public ResponseEntity<TaskDTO> updateTask(@PathVariable UUID id, @RequestBody UpdateTaskDTO updateTaskDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Task taskBO = taskDTOMapper.toBO(updateTaskDTO);
+        taskBO.setVersion(ETags.expectedVersion(ifMatch, ETags.TASK));
         Task updatedTask = taskService.updateTask(id, taskBO);
-        return ResponseEntity.ok(taskDTOMapper.toDTO(updatedTask));
+        return ResponseEntity.ok().eTag(ETags.ofTask(updatedTask)).body(taskDTOMapper.toDTO(updatedTask));
     }
     
     @PutMapping("/{id}/assign")
-    public ResponseEntity<TaskDTO> assignTask(@PathVariable UUID id, @RequestParam UUID assigneeId) {
-        Task updatedTask = taskService.assignTask(id, assigneeId);
-        return ResponseEntity.ok(taskDTOMapper.toDTO(updatedTask));
+    public ResponseEntity<TaskDTO> assignTask(@PathVariable UUID id, @RequestParam UUID assigneeId,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task updatedTask = taskService.assignTask(id, assigneeId, ETags.expectedVersion(ifMatch, ETags.TASK));
+        return ResponseEntity.ok().eTag(ETags.ofTask(updatedTask)).body(taskDTOMapper.toDTO(updatedTask));
     }
     
     @PutMapping("/{id}/status")
-    public ResponseEntity<TaskDTO> updateTaskStatus(@PathVariable UUID id, @RequestParam String status) {
-        Task updatedTask = taskService.updateTaskStatus(id, status);
-        return ResponseEntity.ok(taskDTOMapper.toDTO(updatedTask));
+    public ResponseEntity<TaskDTO> updateTaskStatus(@PathVariable UUID id, @RequestParam String status,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Task updatedTask = taskService.updateTaskStatus(id, status, ETags.expectedVersion(ifMatch, ETags.TASK));
+        return ResponseEntity.ok().eTag(ETags.ofTask(updatedTask)).body(taskDTOMapper.toDTO(updatedTask));
+    }
+    
+    @PutMapping("/status")
+    public ResponseEntity<BulkUpdateResultDTO> updateTasksStatus(@RequestParam String from,
+                                                                 @RequestParam String to,
+                                                                 @RequestParam(required = false) UUID assigneeId) {
+        int updatedCount = taskService.updateTasksStatus(from, to, assigneeId);
+        return ResponseEntity.ok(new BulkUpdateResultDTO(updatedCount));
+    }
+    
+    @PutMapping("/status/batch")
+    public ResponseEntity<BulkUpdateResultDTO> updateTasksStatus(@RequestParam String to, @RequestBody List<UUID> taskIds) {
+        int updatedCount = taskService.updateTasksStatus(taskIds, to);
+        return ResponseEntity.ok(new BulkUpdateResultDTO(updatedCount));
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTask(@PathVariable UUID id) {
+        boolean deleted = taskService.deleteTask(id);
+        return deleted ? ResponseEntity.noContent().build() : ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
     
     @GetMapping("/{id}/estimate")
@@ -73,4 +193,43 @@ public class TaskController {
         double estimatedTime = taskService.estimateTaskTime(id);
         return ResponseEntity.ok(estimatedTime);
     }
+    
+    @PostMapping("/estimate")
+    public ResponseEntity<TaskEstimatesDTO> estimateTasks(@RequestBody EstimateTasksDTO request) {
+        return ResponseEntity.ok(taskDTOMapper.toEstimatesDTO(
+                taskService.estimateTasks(request.getTaskIds(), request.getAssigneeId(), request.getStatus())));
+    }
+    
+    /**
+     * Write one task as a JSON line of an NDJSON export.
+     * 
+     * @param outputStream Response stream
+     * @param writer JSON writer for TaskDTO
+     * @param dto Task to write
+     */
+    private static void writeLine(OutputStream outputStream, ObjectWriter writer, TaskDTO dto) {
+        try {
+            outputStream.write(writer.writeValueAsBytes(dto));
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Read the include parameter of list endpoints.
+     * Skipping the assignee saves its join and its serialization.
+     * 
+     * @param include "assignee" (default) or "none"
+     * @return true if the assignee must be loaded
+     */
+    private boolean includesAssignee(String include) {
+        if (INCLUDE_ASSIGNEE.equals(include)) {
+            return true;
+        }
+        if (INCLUDE_NONE.equals(include)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid include: " + include);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.neosoft.practice_software.infrastructure.api.controller;
+
+import com.neosoft.practice_software.infrastructure.events.TaskEventBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events feed of the task changes, so that boards apply deltas instead of polling the task list.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/v1/tasks")
+public class TaskEventController {
+    
+    private final TaskEventBroadcaster broadcaster;
+    
+    public TaskEventController(TaskEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+    
+    /**
+     * Stream the committed task changes as JSON events, with heartbeat comments while idle.
+     * A RESYNC event means that changes were missed and the tasks must be reloaded.
+     * 
+     * @param lastEventId ID of the last event received, sent by EventSource when it reconnects
+     * @return The event stream
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return broadcaster.subscribe(lastEventId);
+    }
+}
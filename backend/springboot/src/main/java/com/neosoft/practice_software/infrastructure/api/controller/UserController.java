@@ -5,9 +5,12 @@ import com.neosoft.practice_software.domain.model.User;
 import com.neosoft.practice_software.infrastructure.api.dto.CreateUserDTO;
 import com.neosoft.practice_software.infrastructure.api.dto.UserDTO;
 import com.neosoft.practice_software.infrastructure.api.mapper.UserDTOMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +20,7 @@ import java.util.UUID;
  * REST controller for managing users.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/users")
 public class UserController {
     
@@ -29,15 +33,21 @@ public class UserController {
     }
     
     @GetMapping
-    public ResponseEntity<List<UserDTO>> getAllUsers() {
+    public ResponseEntity<List<UserDTO>> getAllUsers(WebRequest webRequest) {
+        String eTag = ETags.of("users", userService.getUsersVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            // 304 already prepared, the users are neither loaded nor serialized
+            return null;
+        }
+        
         List<User> users = userService.getAllUsers();
-        return ResponseEntity.ok(userDTOMapper.toDTOs(users));
+        return ResponseEntity.ok().eTag(eTag).body(userDTOMapper.toDTOs(users));
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<UserDTO> getUserById(@PathVariable UUID id) {
         Optional<User> userOpt = userService.getUserById(id);
-        return userOpt.map(user -> ResponseEntity.ok(userDTOMapper.toDTO(user)))
+        return userOpt.map(user -> ResponseEntity.ok().eTag(ETags.ofUser(user)).body(userDTOMapper.toDTO(user)))
                       .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
     
@@ -49,10 +59,12 @@ public class UserController {
     }
     
     @PutMapping("/{id}")
-    public ResponseEntity<UserDTO> updateUser(@PathVariable UUID id, @RequestBody UserDTO userDTO) {
+    public ResponseEntity<UserDTO> updateUser(@PathVariable UUID id, @RequestBody UserDTO userDTO,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         User userBO = userDTOMapper.toBO(userDTO);
+        userBO.setVersion(ETags.expectedVersion(ifMatch, ETags.USER));
         User updatedUser = userService.updateUser(id, userBO);
-        return ResponseEntity.ok(userDTOMapper.toDTO(updatedUser));
+        return ResponseEntity.ok().eTag(ETags.ofUser(updatedUser)).body(userDTOMapper.toDTO(updatedUser));
     }
     
     @DeleteMapping("/{id}")
@@ -0,0 +1,19 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of a bulk update.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpdateResultDTO {
+    
+    /**
+     * Number of rows affected by the update.
+     */
+    private int updatedCount;
+}
@@ -0,0 +1,32 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO selecting the tasks of a batch estimate. The criteria are combined, and at least one is required.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimateTasksDTO {
+    
+    /**
+     * IDs of the tasks to estimate.
+     */
+    private List<UUID> taskIds;
+    
+    /**
+     * Restrict to the tasks of this assignee.
+     */
+    private UUID assigneeId;
+    
+    /**
+     * Restrict to the tasks in this status.
+     */
+    private String status;
+}
@@ -0,0 +1,46 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the rules of the task time estimates.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EstimationRulesDTO {
+    
+    /**
+     * Hours of a task before adjustments.
+     */
+    private double baseHours;
+    
+    /**
+     * Lowest estimate, in hours.
+     */
+    private double minimumHours;
+    
+    /**
+     * Factor applied to the base hours, by priority. Missing priorities have a factor of 1.
+     */
+    private Map<String, Double> priorityFactors;
+    
+    /**
+     * Factor applied to the adjusted hours, by status. Missing statuses have a factor of 1.
+     */
+    private Map<String, Double> statusFactors;
+    
+    /**
+     * Number of description words adding a step of hours.
+     */
+    private int wordsPerStep;
+    
+    /**
+     * Hours added per full step of description words.
+     */
+    private double hoursPerStep;
+}
@@ -0,0 +1,37 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for the tasks changed and deleted since a synchronization token.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDTO {
+    
+    /**
+     * Created or updated tasks, without assignee.
+     */
+    private List<TaskDTO> changed;
+    
+    /**
+     * IDs of the deleted tasks.
+     */
+    private List<UUID> deleted;
+    
+    /**
+     * Token to send as since on the next call.
+     */
+    private String token;
+    
+    /**
+     * Whether more changes are available right away with the returned token.
+     */
+    private boolean hasMore;
+}
@@ -0,0 +1,31 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of one item of a bulk task creation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCreationResultDTO {
+    
+    /**
+     * Position of the item in the request.
+     */
+    private int index;
+    
+    private boolean created;
+    
+    /**
+     * Created task, null when the item was rejected.
+     */
+    private TaskDTO task;
+    
+    /**
+     * Rejection reason, null when the item was created.
+     */
+    private String error;
+}
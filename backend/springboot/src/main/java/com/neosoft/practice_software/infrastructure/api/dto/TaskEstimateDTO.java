@@ -0,0 +1,23 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for the time estimate of a task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEstimateDTO {
+    
+    private UUID taskId;
+    
+    /**
+     * Estimated time left, in hours.
+     */
+    private double hours;
+}
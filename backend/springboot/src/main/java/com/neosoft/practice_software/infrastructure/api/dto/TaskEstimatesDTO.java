@@ -0,0 +1,26 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the time estimates of a batch of tasks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEstimatesDTO {
+    
+    /**
+     * Estimate of each task.
+     */
+    private List<TaskEstimateDTO> tasks;
+    
+    /**
+     * Sum of the estimates, in hours.
+     */
+    private double totalHours;
+}
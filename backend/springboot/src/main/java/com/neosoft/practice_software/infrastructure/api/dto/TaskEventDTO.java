@@ -0,0 +1,47 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for an event of the task change feed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDTO {
+    
+    /**
+     * Event type sent when events were dropped: the client must reload the tasks.
+     */
+    public static final String RESYNC = "RESYNC";
+    
+    /**
+     * CREATED, UPDATED, STATUS_CHANGED, ASSIGNED, BULK_STATUS_CHANGED, DELETED, ARCHIVED, RESTORED or RESYNC.
+     */
+    private String type;
+    
+    /**
+     * IDs of the changed tasks, empty when a bulk change was made by filter.
+     */
+    private List<UUID> taskIds;
+    
+    /**
+     * The created or restored task, for CREATED and RESTORED events only.
+     */
+    private TaskDTO task;
+    
+    /**
+     * New values of the changed fields, by field name.
+     */
+    private Map<String, Object> changes;
+    
+    public static TaskEventDTO resync() {
+        return new TaskEventDTO(RESYNC, List.of(), null, Map.of());
+    }
+}
@@ -0,0 +1,22 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a page of tasks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDTO {
+    
+    private List<TaskDTO> items;
+    
+    /**
+     * Opaque cursor of the next page, null when this page is the last one.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,24 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a task found by a full-text search.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResultDTO {
+    
+    /**
+     * The task with its assignee.
+     */
+    private TaskDTO task;
+    
+    /**
+     * Relevance of the task, higher is better, only comparable within the same search.
+     */
+    private double score;
+}
@@ -0,0 +1,41 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the statistics of the task board.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTO {
+    
+    /**
+     * Number of tasks.
+     */
+    private long count;
+    
+    /**
+     * Sum of the time estimates of the tasks, in hours.
+     */
+    private double estimatedHours;
+    
+    /**
+     * Totals per status.
+     */
+    private List<TaskStatsGroupDTO> byStatus;
+    
+    /**
+     * Totals per assignee ID, the unassigned tasks under a null key.
+     */
+    private List<TaskStatsGroupDTO> byAssignee;
+    
+    /**
+     * Totals per priority, the tasks without priority under a null key.
+     */
+    private List<TaskStatsGroupDTO> byPriority;
+}
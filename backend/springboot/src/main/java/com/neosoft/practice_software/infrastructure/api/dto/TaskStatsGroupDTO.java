@@ -0,0 +1,29 @@
+package com.neosoft.practice_software.infrastructure.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the count and estimate of a group of tasks.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsGroupDTO {
+    
+    /**
+     * Status, assignee ID or priority of the group.
+     */
+    private String key;
+    
+    /**
+     * Number of tasks.
+     */
+    private long count;
+    
+    /**
+     * Sum of the time estimates of the tasks, in hours.
+     */
+    private double estimatedHours;
+}
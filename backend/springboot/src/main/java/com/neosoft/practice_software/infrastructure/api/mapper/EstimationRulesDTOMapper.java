@@ -0,0 +1,28 @@
+package com.neosoft.practice_software.infrastructure.api.mapper;
+
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import com.neosoft.practice_software.infrastructure.api.dto.EstimationRulesDTO;
+import org.mapstruct.Mapper;
+
+/**
+ * Mapper for converting between EstimationRulesDTO and EstimationRules.
+ */
+@Mapper(componentModel = "spring", uses = TaskEnumDTOMapper.class)
+public interface EstimationRulesDTOMapper {
+    
+    /**
+     * Convert EstimationRules to EstimationRulesDTO.
+     * 
+     * @param rules The rules to convert
+     * @return The converted DTO
+     */
+    EstimationRulesDTO toDTO(EstimationRules rules);
+    
+    /**
+     * Convert EstimationRulesDTO to EstimationRules.
+     * 
+     * @param dto The DTO to convert
+     * @return The converted rules
+     */
+    EstimationRules toRules(EstimationRulesDTO dto);
+}
@@ -1,8 +1,22 @@
 package com.neosoft.practice_software.infrastructure.api.mapper;
 
 import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChangeEvent;
+import com.neosoft.practice_software.domain.model.TaskChangeSet;
+import com.neosoft.practice_software.domain.model.TaskCreationResult;
+import com.neosoft.practice_software.domain.model.TaskEstimates;
+import com.neosoft.practice_software.domain.model.TaskPage;
+import com.neosoft.practice_software.domain.model.TaskSearchResult;
+import com.neosoft.practice_software.domain.model.TaskStats;
 import com.neosoft.practice_software.infrastructure.api.dto.CreateTaskDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskChangesDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskCreationResultDTO;
 import com.neosoft.practice_software.infrastructure.api.dto.TaskDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskEstimatesDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskEventDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskPageDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskSearchResultDTO;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskStatsDTO;
 import com.neosoft.practice_software.infrastructure.api.dto.UpdateTaskDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -13,7 +27,7 @@ import java.util.List;
 /**
  * Mapper for converting between TaskDTO and Task (Business Object).
  */
-@Mapper(componentModel = "spring", uses = {UserDTOMapper.class})
+@Mapper(componentModel = "spring", uses = {UserDTOMapper.class, TaskEnumDTOMapper.class})
 public interface TaskDTOMapper {
     
     /**
@@ -31,6 +45,7 @@ public interface TaskDTOMapper {
      * @param dto The DTO to convert
      * @return The converted business object
      */
+    @Mapping(target = "version", ignore = true)
     Task toBO(TaskDTO dto);
     
     /**
@@ -39,6 +54,11 @@ public interface TaskDTOMapper {
      * @param dto The DTO to convert
      * @return The converted business object
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Task toBO(CreateTaskDTO dto);
 
     /**
@@ -47,6 +67,11 @@ public interface TaskDTOMapper {
      * @param dto The DTO to convert
      * @return The converted business object
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Task toBO(UpdateTaskDTO dto);
 
     /**
@@ -57,12 +82,77 @@ public interface TaskDTOMapper {
      */
     List<TaskDTO> toDTOs(List<Task> bos);
     
+    /**
+     * Convert a list of CreateTaskDTO to a list of TaskBO.
+     *
+     * @param dtos The DTOs to convert
+     * @return The converted business objects
+     */
+    List<Task> toBOs(List<CreateTaskDTO> dtos);
+    
+    /**
+     * Convert a list of TaskCreationResult to a list of TaskCreationResultDTO.
+     *
+     * @param results The results to convert
+     * @return The converted DTOs
+     */
+    List<TaskCreationResultDTO> toCreationResultDTOs(List<TaskCreationResult> results);
+    
+    /**
+     * Convert a TaskPage to a TaskPageDTO.
+     *
+     * @param page The page to convert
+     * @return The converted DTO
+     */
+    TaskPageDTO toPageDTO(TaskPage page);
+    
+    /**
+     * Convert a task change to an event of the change feed.
+     * 
+     * @param event The change to convert
+     * @return The converted DTO
+     */
+    TaskEventDTO toEventDTO(TaskChangeEvent event);
+    
+    /**
+     * Convert a TaskChangeSet to a TaskChangesDTO.
+     * 
+     * @param changes The changes to convert
+     * @return The converted DTO
+     */
+    TaskChangesDTO toChangesDTO(TaskChangeSet changes);
+    
+    /**
+     * Convert search results to DTOs, keeping their order.
+     * 
+     * @param results The results to convert
+     * @return The converted DTOs
+     */
+    List<TaskSearchResultDTO> toSearchResultDTOs(List<TaskSearchResult> results);
+    
+    /**
+     * Convert TaskStats to a TaskStatsDTO.
+     * 
+     * @param stats The statistics to convert
+     * @return The converted DTO
+     */
+    TaskStatsDTO toStatsDTO(TaskStats stats);
+    
+    /**
+     * Convert TaskEstimates to a TaskEstimatesDTO.
+     * 
+     * @param estimates The estimates to convert
+     * @return The converted DTO
+     */
+    TaskEstimatesDTO toEstimatesDTO(TaskEstimates estimates);
+    
     /**
      * Update a TaskBO from a TaskDTO.
      * 
      * @param dto The DTO with updated values
      * @param bo The business object to update
      */
+    @Mapping(target = "version", ignore = true)
     void updateBOFromDTO(TaskDTO dto, @MappingTarget Task bo);
     
     /**
@@ -71,6 +161,11 @@ public interface TaskDTOMapper {
      * @param dto The DTO with updated values
      * @param bo The business object to update
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateBOFromDTO(CreateTaskDTO dto, @MappingTarget Task bo);
 
     /**
@@ -79,5 +174,10 @@ public interface TaskDTOMapper {
      * @param dto The DTO with updated values
      * @param bo The business object to update
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateBOFromDTO(UpdateTaskDTO dto, @MappingTarget Task bo);
 } 
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.neosoft.practice_software.infrastructure.api.mapper;
+
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+
+/**
+ * Conversions of the task statuses and priorities received by the API.
+ * Unknown names are rejected with the same messages as the service validation, instead of the default enum error.
+ */
+public final class TaskEnumDTOMapper {
+    
+    private TaskEnumDTOMapper() {
+    }
+    
+    /**
+     * Convert a status name to a TaskStatus.
+     * 
+     * @param status The status name, may be null
+     * @return The status, or null
+     */
+    public static TaskStatus toStatus(String status) {
+        return TaskStatus.of(status);
+    }
+    
+    /**
+     * Convert a priority name to a TaskPriority.
+     * 
+     * @param priority The priority name, may be null
+     * @return The priority, or null
+     */
+    public static TaskPriority toPriority(String priority) {
+        return TaskPriority.of(priority);
+    }
+}
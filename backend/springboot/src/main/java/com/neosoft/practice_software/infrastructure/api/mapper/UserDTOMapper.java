@@ -4,6 +4,7 @@ import com.neosoft.practice_software.domain.model.User;
 import com.neosoft.practice_software.infrastructure.api.dto.CreateUserDTO;
 import com.neosoft.practice_software.infrastructure.api.dto.UserDTO;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.List;
@@ -28,6 +29,7 @@ public interface UserDTOMapper {
      * @param dto The DTO to convert
      * @return The converted business object
      */
+    @Mapping(target = "version", ignore = true)
     User toBO(UserDTO dto);
     
     /**
@@ -36,6 +38,10 @@ public interface UserDTOMapper {
      * @param dto The DTO to convert
      * @return The converted business object
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toBO(CreateUserDTO dto);
     
     /**
@@ -52,6 +58,7 @@ public interface UserDTOMapper {
      * @param dto The DTO with updated values
      * @param bo The business object to update
      */
+    @Mapping(target = "version", ignore = true)
     void updateBOFromDTO(UserDTO dto, @MappingTarget User bo);
     
     /**
@@ -60,5 +67,9 @@ public interface UserDTOMapper {
      * @param dto The DTO with updated values
      * @param bo The business object to update
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateBOFromDTO(CreateUserDTO dto, @MappingTarget User bo);
 } 
\ No newline at end of file
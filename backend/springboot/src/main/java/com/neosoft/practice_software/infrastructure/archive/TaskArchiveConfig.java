@@ -0,0 +1,14 @@
+package com.neosoft.practice_software.infrastructure.archive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@link TaskArchiveJob} on a schedule. Disabled with app.tasks.archive.enabled=false.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.tasks.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiveConfig {
+}
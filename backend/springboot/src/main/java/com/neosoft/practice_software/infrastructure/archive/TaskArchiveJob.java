@@ -0,0 +1,61 @@
+package com.neosoft.practice_software.infrastructure.archive;
+
+import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.infrastructure.batch.BatchRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Moves the tasks DONE for a long time out of the hot tasks table.
+ * <p>
+ * Rows are moved through the {@link BatchRunner}. A checkpoint keeps the position of the last moved task, so a
+ * run resumes where the previous one stopped instead of scanning the table again. Archived tasks are still read
+ * by ID and by the list endpoint with includeArchived=true, while the statistics, the search and the page
+ * endpoint only cover the hot tasks.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiveJob {
+    
+    private final TaskDAO taskDAO;
+    private final BatchRunner batchRunner;
+    private final Duration age;
+    private final Counter archived;
+    
+    public TaskArchiveJob(TaskDAO taskDAO,
+                          BatchRunner batchRunner,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.tasks.archive.age:90d}") Duration age) {
+        this.taskDAO = taskDAO;
+        this.batchRunner = batchRunner;
+        this.age = age;
+        this.archived = Counter.builder("tasks.archived")
+                .description("DONE tasks moved out of the hot table")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Archive the tasks DONE for longer than the configured age.
+     */
+    @Scheduled(initialDelayString = "${app.tasks.archive.interval:1h}", fixedDelayString = "${app.tasks.archive.interval:1h}")
+    public void archive() {
+        archive(LocalDateTime.now().minus(age));
+    }
+    
+    /**
+     * Archive the tasks DONE and last updated before a date.
+     * 
+     * @param before Last update date limit
+     * @return Number of archived tasks
+     */
+    public int archive(LocalDateTime before) {
+        return batchRunner.run(limit -> taskDAO.archiveDone(before, limit), archived);
+    }
+}
@@ -0,0 +1,63 @@
+package com.neosoft.practice_software.infrastructure.batch;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Runs the background jobs on the tasks table in small batches.
+ * <p>
+ * Each batch runs in its own transaction and is followed by a pause, so that a job never holds locks on many rows
+ * at once nor saturates the database. A run stops after a maximum number of batches, the remaining rows are left
+ * to the next run.
+ */
+@Component
+public class BatchRunner {
+    
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxBatches;
+    
+    public BatchRunner(TransactionTemplate transactionTemplate,
+                       @Value("${app.tasks.batch.size:500}") int batchSize,
+                       @Value("${app.tasks.batch.pause:200ms}") Duration pause,
+                       @Value("${app.tasks.batch.max-batches:1000}") int maxBatches) {
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxBatches = maxBatches;
+    }
+    
+    /**
+     * Run batches until one processes less than a full batch or the maximum number of batches is reached.
+     * 
+     * @param batch Processes up to the given number of rows and returns the number of processed rows
+     * @param counter Counter of the processed rows
+     * @return Number of processed rows
+     */
+    public int run(IntUnaryOperator batch, Counter counter) {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            Integer processed = transactionTemplate.execute(status -> batch.applyAsInt(batchSize));
+            total += processed;
+            counter.increment(processed);
+            if (processed < batchSize) {
+                break;
+            }
+            
+            try {
+                // Let the application transactions through between two batches
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+}
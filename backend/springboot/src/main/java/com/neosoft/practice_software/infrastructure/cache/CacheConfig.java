@@ -0,0 +1,59 @@
+package com.neosoft.practice_software.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Configuration of the in-process caches.
+ * Sizes and TTL are set by spring.cache.caffeine.spec, and spring.cache.type=none disables them.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    
+    /**
+     * Users by ID.
+     */
+    public static final String USERS = "users";
+    
+    /**
+     * User existence by ID, checked on every task write.
+     */
+    public static final String USER_EXISTS = "userExists";
+    
+    /**
+     * Caffeine cache manager whose caches defer puts and evictions to the commit of the surrounding transaction,
+     * so that rolled back writes never reach the cache and readers never cache uncommitted rows.
+     * Replaces the auto-configured manager, which has no transaction-aware option.
+     * 
+     * @param cacheProperties The spring.cache properties
+     * @return The cache manager
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine", matchIfMissing = true)
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new TransactionAwareCacheDecorator(super.adaptCaffeineCache(name, cache));
+            }
+        };
+        String specification = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(specification)) {
+            cacheManager.setCacheSpecification(specification);
+        }
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,304 @@
+package com.neosoft.practice_software.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.application.dao.UserDAO;
+import com.neosoft.practice_software.domain.model.DataVersion;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChange;
+import com.neosoft.practice_software.domain.model.TaskChangeToken;
+import com.neosoft.practice_software.domain.model.TaskCursor;
+import com.neosoft.practice_software.domain.model.TaskSort;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.jpa.dao.TaskDAOImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * TaskDAO decorator caching tasks by ID.
+ * <p>
+ * Only reads outside of read-write transactions use the cache, so the write path always works on fresh rows.
+ * Writes invalidate the cached tasks once their transaction commits, and a load that overlapped an
+ * invalidation is not cached, so readers never see uncommitted or overwritten state.
+ * Tasks are cached without their assignee, which is resolved through the {@link UserDAO} on every hit,
+ * so that a user update shows up in the cached tasks of that user without evicting them.
+ * Disabled with app.cache.tasks.enabled=false.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "app.cache.tasks.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingTaskDAO implements TaskDAO {
+    
+    static final String CACHE_NAME = "tasks";
+    
+    private final TaskDAO delegate;
+    private final UserDAO userDAO;
+    private final Cache<UUID, Task> cache;
+    
+    /**
+     * Incremented on every invalidation, before the entries are removed.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public CachingTaskDAO(TaskDAOImpl delegate,
+                          UserDAO userDAO,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.cache.tasks.maximum-size:10000}") long maximumSize,
+                          @Value("${app.cache.tasks.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.userDAO = userDAO;
+        // Caffeine evicts with W-TinyLFU once the size limit is reached
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        // Same tag keys as the caches of the Spring cache manager, which Prometheus requires for a meter name
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME,
+                Tags.of("cache.manager", "cachingTaskDAO", "name", CACHE_NAME));
+    }
+    
+    @Override
+    public Optional<Task> findById(UUID id) {
+        if (!cacheable()) {
+            return delegate.findById(id);
+        }
+        
+        Task cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(withAssignee(copy(cached)));
+        }
+        
+        long generation = invalidations.get();
+        Optional<Task> loaded = delegate.findById(id);
+        loaded.ifPresent(task -> cache.asMap().compute(id, (key, current) -> {
+            // Skip the load if a write committed meanwhile, and never replace a newer version
+            if (invalidations.get() != generation) {
+                return current;
+            }
+            if (current != null && current.getUpdatedAt() != null && task.getUpdatedAt() != null
+                    && current.getUpdatedAt().isAfter(task.getUpdatedAt())) {
+                return current;
+            }
+            return copy(task);
+        }));
+        return loaded;
+    }
+    
+    @Override
+    public List<Task> findByIds(Collection<UUID> ids) {
+        return delegate.findByIds(ids);
+    }
+    
+    @Override
+    public List<Task> findForEstimation(Collection<UUID> ids, UUID assigneeId, TaskStatus status, int limit) {
+        return delegate.findForEstimation(ids, assigneeId, status, limit);
+    }
+    
+    @Override
+    public Task update(Task task) {
+        Task updated = delegate.update(task);
+        afterCommit(() -> invalidate(List.of(task.getId())));
+        return updated;
+    }
+    
+    @Override
+    public int updateStatus(TaskStatus from, TaskStatus to, UUID assigneeId) {
+        int updated = delegate.updateStatus(from, to, assigneeId);
+        if (updated > 0) {
+            afterCommit(this::invalidateAll);
+        }
+        return updated;
+    }
+    
+    @Override
+    public int updateStatusByIds(Collection<UUID> ids, TaskStatus to) {
+        int updated = delegate.updateStatusByIds(ids, to);
+        if (updated > 0) {
+            List<UUID> invalidated = List.copyOf(ids);
+            afterCommit(() -> invalidate(invalidated));
+        }
+        return updated;
+    }
+    
+    @Override
+    public boolean deleteById(UUID id) {
+        boolean deleted = delegate.deleteById(id);
+        if (deleted) {
+            afterCommit(() -> invalidate(List.of(id)));
+        }
+        return deleted;
+    }
+    
+    @Override
+    public int purgeDeleted(LocalDateTime before, int limit) {
+        // Deleted tasks are already out of the cache
+        return delegate.purgeDeleted(before, limit);
+    }
+    
+    @Override
+    public int purgeTombstones(LocalDateTime before, int limit) {
+        return delegate.purgeTombstones(before, limit);
+    }
+    
+    @Override
+    public int archiveDone(LocalDateTime before, int limit) {
+        // Archived tasks are still read by ID with the same content, their cache entries stay valid.
+        // The in-memory statistics and search index drop them on the ARCHIVED event of the delegate
+        return delegate.archiveDone(before, limit);
+    }
+    
+    @Override
+    public Task save(Task task) {
+        return delegate.save(task);
+    }
+    
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        return delegate.saveAll(tasks);
+    }
+    
+    @Override
+    public List<Task> findAll(boolean withAssignee, boolean includeArchived) {
+        return delegate.findAll(withAssignee, includeArchived);
+    }
+    
+    @Override
+    public void streamAll(Consumer<Task> consumer) {
+        delegate.streamAll(consumer);
+    }
+    
+    @Override
+    public List<Task> findPage(TaskCursor after, TaskSort sort, int limit, boolean withAssignee) {
+        return delegate.findPage(after, sort, limit, withAssignee);
+    }
+    
+    @Override
+    public List<Task> findByStatus(TaskStatus status, boolean withAssignee, boolean includeArchived) {
+        return delegate.findByStatus(status, withAssignee, includeArchived);
+    }
+    
+    @Override
+    public List<Task> findByAssigneeId(UUID assigneeId, boolean withAssignee, boolean includeArchived) {
+        return delegate.findByAssigneeId(assigneeId, withAssignee, includeArchived);
+    }
+    
+    @Override
+    public Optional<Task> findByTitleAndAssigneeId(String title, UUID assigneeId) {
+        return delegate.findByTitleAndAssigneeId(title, assigneeId);
+    }
+    
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+    
+    @Override
+    public boolean existsByTitleAndAssigneeId(String title, UUID assigneeId) {
+        return delegate.existsByTitleAndAssigneeId(title, assigneeId);
+    }
+    
+    @Override
+    public Map<UUID, Set<String>> findTitlesByAssignees(Collection<UUID> assigneeIds, Collection<String> titles) {
+        return delegate.findTitlesByAssignees(assigneeIds, titles);
+    }
+    
+    @Override
+    public DataVersion getDataVersion(boolean includeArchived) {
+        return delegate.getDataVersion(includeArchived);
+    }
+    
+    @Override
+    public long getChangeWatermark() {
+        return delegate.getChangeWatermark();
+    }
+    
+    @Override
+    public List<TaskChange> findChanges(TaskChangeToken after, long upTo, int limit, boolean withDeletions) {
+        return delegate.findChanges(after, upTo, limit, withDeletions);
+    }
+    
+    /**
+     * Check if the current call may use the cache.
+     * Read-write transactions bypass it: they must see their own changes and lock fresh rows.
+     * 
+     * @return true if the cache can be used
+     */
+    private boolean cacheable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+    
+    /**
+     * Run an action after the current transaction commits, or right away without transaction.
+     * 
+     * @param action Action to run
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    private void invalidate(Collection<UUID> ids) {
+        invalidations.incrementAndGet();
+        ids.forEach(id -> cache.asMap().remove(id));
+    }
+    
+    private void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Set the current assignee of a task read from the cache.
+     * 
+     * @param task Copy of the cached task
+     * @return The task
+     */
+    private Task withAssignee(Task task) {
+        if (task.getAssigneeId() != null) {
+            task.setAssignee(userDAO.findById(task.getAssigneeId()).orElse(null));
+        }
+        return task;
+    }
+    
+    /**
+     * Copy a task without its assignee, so that callers never share the cached instance
+     * and the cache never holds users.
+     * 
+     * @param task Task to copy
+     * @return The copy
+     */
+    private static Task copy(Task task) {
+        return new Task(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt(),
+                task.getAssigneeId(), null, task.getVersion());
+    }
+}
@@ -0,0 +1,38 @@
+package com.neosoft.practice_software.infrastructure.estimation;
+
+import com.neosoft.practice_software.application.service.EstimationEngine;
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the task estimation engine.
+ * The rules are read from app.estimation.rules, another {@link EstimationEngine} bean replaces the default one.
+ */
+@Configuration
+public class EstimationConfig {
+    
+    /**
+     * Rule-based engine, with the original rules for the properties that are not set.
+     * 
+     * @param environment    Environment holding the rules
+     * @param memoSize       Maximum number of memoised estimates, 0 to disable the memo
+     * @param eventPublisher Publisher of the rule changes
+     * @return The engine
+     */
+    @Bean
+    @ConditionalOnMissingBean(EstimationEngine.class)
+    public EstimationEngine estimationEngine(Environment environment,
+                                             @Value("${app.estimation.memo-size:100000}") long memoSize,
+                                             ApplicationEventPublisher eventPublisher) {
+        EstimationRules rules = Binder.get(environment)
+                .bind("app.estimation.rules", EstimationRules.class)
+                .orElse(EstimationRules.DEFAULT);
+        return new RuleBasedEstimationEngine(rules, memoSize, eventPublisher);
+    }
+}
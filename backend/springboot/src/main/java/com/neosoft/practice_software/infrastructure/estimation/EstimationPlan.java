@@ -0,0 +1,54 @@
+package com.neosoft.practice_software.infrastructure.estimation;
+
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+
+/**
+ * Rule set compiled for evaluation: the factors are laid out in arrays indexed by the enum ordinals, and the base
+ * hours of each priority are premultiplied, so that an estimate is two array reads and a few arithmetic operations.
+ * The tasks without priority use the last slot of the priority array, with a neutral factor.
+ * <p>
+ * Immutable, shared by all the estimates running while it is the current plan.
+ */
+final class EstimationPlan {
+    
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    
+    private final EstimationRules rules;
+    private final double[] baseHours;
+    private final double[] statusFactors;
+    
+    EstimationPlan(EstimationRules rules) {
+        this.rules = rules;
+        this.baseHours = new double[PRIORITIES.length + 1];
+        for (TaskPriority priority : PRIORITIES) {
+            baseHours[priority.ordinal()] = rules.baseHours() * rules.priorityFactors().getOrDefault(priority, 1.0);
+        }
+        baseHours[PRIORITIES.length] = rules.baseHours();
+        this.statusFactors = new double[STATUSES.length];
+        for (TaskStatus status : STATUSES) {
+            statusFactors[status.ordinal()] = rules.statusFactors().getOrDefault(status, 1.0);
+        }
+    }
+    
+    EstimationRules rules() {
+        return rules;
+    }
+    
+    /**
+     * Evaluate the plan, in the same order of operations as the rules so that results do not change.
+     * 
+     * @param priority         Task priority, may be null
+     * @param status           Task status
+     * @param descriptionWords Number of words of the description
+     * @return Estimated time in hours
+     */
+    double evaluate(TaskPriority priority, TaskStatus status, int descriptionWords) {
+        double hours = baseHours[priority == null ? PRIORITIES.length : priority.ordinal()]
+                + (descriptionWords / rules.wordsPerStep()) * rules.hoursPerStep();
+        hours *= statusFactors[status.ordinal()];
+        return Math.max(rules.minimumHours(), hours);
+    }
+}
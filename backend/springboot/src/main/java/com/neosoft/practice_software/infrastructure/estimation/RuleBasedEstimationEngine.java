@@ -0,0 +1,95 @@
+package com.neosoft.practice_software.infrastructure.estimation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neosoft.practice_software.application.service.EstimationEngine;
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskEstimation;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Estimation engine evaluating a configurable rule set.
+ * <p>
+ * The rules are compiled once into an {@link EstimationPlan}. The results of each plan are memoised by task ID and
+ * update date: a task that has not changed since its last estimate is not evaluated again, nor its description
+ * counted. Reloading compiles a new plan with an empty memo and swaps it atomically, estimates already running
+ * finish on the plan they started with.
+ */
+public class RuleBasedEstimationEngine implements EstimationEngine {
+    
+    private final AtomicReference<CompiledRules> current = new AtomicReference<>();
+    private final long memoSize;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * Create an engine and compile its initial rules.
+     * 
+     * @param rules          Initial rule set
+     * @param memoSize       Maximum number of memoised estimates, 0 to disable the memo
+     * @param eventPublisher Publisher of the rule changes
+     */
+    public RuleBasedEstimationEngine(EstimationRules rules, long memoSize, ApplicationEventPublisher eventPublisher) {
+        if (memoSize < 0) {
+            throw new IllegalArgumentException("Memo size must not be negative");
+        }
+        this.memoSize = memoSize;
+        this.eventPublisher = eventPublisher;
+        this.current.set(compile(rules));
+    }
+    
+    @Override
+    public double estimate(Task task) {
+        CompiledRules compiled = current.get();
+        if (compiled.memo == null || task.getId() == null || task.getUpdatedAt() == null) {
+            return evaluate(compiled.plan, task);
+        }
+        return compiled.memo.get(new MemoKey(task.getId(), task.getUpdatedAt()), key -> evaluate(compiled.plan, task));
+    }
+    
+    @Override
+    public double estimate(TaskPriority priority, TaskStatus status, int descriptionWords) {
+        return current.get().plan.evaluate(priority, status, descriptionWords);
+    }
+    
+    @Override
+    public EstimationRules getRules() {
+        return current.get().plan.rules();
+    }
+    
+    @Override
+    public void reload(EstimationRules rules) {
+        current.set(compile(rules));
+        eventPublisher.publishEvent(rules);
+    }
+    
+    private CompiledRules compile(EstimationRules rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Estimation rules are required");
+        }
+        Cache<MemoKey, Double> memo = memoSize == 0 ? null : Caffeine.newBuilder().maximumSize(memoSize).build();
+        return new CompiledRules(new EstimationPlan(rules), memo);
+    }
+    
+    private static double evaluate(EstimationPlan plan, Task task) {
+        return plan.evaluate(task.getPriority(), task.getStatus(), TaskEstimation.countWords(task.getDescription()));
+    }
+    
+    /**
+     * A plan and its memo, swapped together so that a memo never holds results of other rules.
+     */
+    private record CompiledRules(EstimationPlan plan, Cache<MemoKey, Double> memo) {
+    }
+    
+    /**
+     * Version of a task, an update changes its date.
+     */
+    private record MemoKey(UUID taskId, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.neosoft.practice_software.infrastructure.events;
+
+import com.neosoft.practice_software.domain.model.TaskChangeEvent;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskEventDTO;
+import com.neosoft.practice_software.infrastructure.api.mapper.TaskDTOMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process fan-out of the committed task changes to the Server-Sent Events subscribers.
+ * <p>
+ * Changes are queued per subscriber without blocking the committing thread, and each subscriber is written to
+ * by its own virtual thread. Events are numbered: a client reconnecting with a Last-Event-ID that is not the
+ * current one may have missed changes and is sent a RESYNC.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TaskEventBroadcaster implements DisposableBean {
+    
+    private final TaskDTOMapper taskDTOMapper;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Duration reconnectDelay;
+    private final Counter resyncs;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("task-events-heartbeat").daemon().factory());
+    
+    /**
+     * Sequence number of the last event, guarded by this.
+     */
+    private long sequence;
+    
+    public TaskEventBroadcaster(TaskDTOMapper taskDTOMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.events.tasks.buffer-size:256}") int bufferSize,
+                                @Value("${app.events.tasks.heartbeat-interval:15s}") Duration heartbeatInterval,
+                                @Value("${app.events.tasks.timeout:30m}") Duration timeout,
+                                @Value("${app.events.tasks.reconnect-delay:3s}") Duration reconnectDelay) {
+        this.taskDTOMapper = taskDTOMapper;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.reconnectDelay = reconnectDelay;
+        this.resyncs = Counter.builder("tasks.events.resyncs")
+                .description("Subscribers of the task change feed that fell behind and must reload")
+                .register(meterRegistry);
+        meterRegistry.gauge("tasks.events.subscribers", subscribers, Set::size);
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Open a change feed.
+     * 
+     * @param lastEventId ID of the last event received before a reconnection, or null
+     * @return The emitter, completed by the client disconnection or the timeout
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, new TaskEventQueue(bufferSize));
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        
+        long current;
+        synchronized (this) {
+            // Registered under the lock so that no event falls between the check below and the subscription
+            current = sequence;
+            subscribers.add(subscriber);
+            if (lastEventId != null && !lastEventId.equals(Long.toString(current))) {
+                subscriber.queue.offer(current, TaskEventDTO.resync());
+            }
+        }
+        
+        try {
+            // Tell the client the current event ID, to be sent back in Last-Event-ID if it reconnects
+            emitter.send(SseEmitter.event().id(Long.toString(current)).reconnectTime(reconnectDelay.toMillis()));
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscriber.sender = Thread.ofVirtual().name("task-events-sender").start(() -> deliver(subscriber));
+        if (subscriber.closed) {
+            // Closed before the sender was known to unsubscribe
+            subscriber.sender.interrupt();
+        }
+        return emitter;
+    }
+    
+    /**
+     * Forward a change to all subscribers, once its transaction has committed.
+     * 
+     * @param event The change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChange(TaskChangeEvent event) {
+        TaskEventDTO dto = taskDTOMapper.toEventDTO(event);
+        // Numbering and queuing under the same lock keeps the events in order for every subscriber
+        synchronized (this) {
+            long id = ++sequence;
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.queue.offer(id, dto)) {
+                    resyncs.increment();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Number of open change feeds.
+     * 
+     * @return The number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            unsubscribe(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+    
+    private void sendHeartbeats() {
+        long current;
+        synchronized (this) {
+            current = sequence;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.queue.offerHeartbeat(current);
+        }
+    }
+    
+    private void deliver(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                TaskEventQueue.Item item = subscriber.queue.take();
+                if (item.isHeartbeat()) {
+                    // A comment line, ignored by EventSource but failing fast if the client is gone
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(Long.toString(item.id()))
+                            .data(item.event(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // The client disconnected or the emitter completed, the container reports it to the emitter
+        } finally {
+            subscribers.remove(subscriber);
+        }
+    }
+    
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        Thread sender = subscriber.sender;
+        if (sender != null) {
+            sender.interrupt();
+        }
+    }
+    
+    /**
+     * An open change feed and the events waiting to be written to it.
+     */
+    private static final class Subscriber {
+        
+        private final SseEmitter emitter;
+        private final TaskEventQueue queue;
+        private volatile Thread sender;
+        private volatile boolean closed;
+        
+        private Subscriber(SseEmitter emitter, TaskEventQueue queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.neosoft.practice_software.infrastructure.events;
+
+import com.neosoft.practice_software.infrastructure.api.dto.TaskEventDTO;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded buffer of the events not yet sent to one subscriber.
+ * <p>
+ * A subscriber that falls behind by more than the capacity loses its pending events and gets a single RESYNC
+ * instead, so that a slow client never holds memory nor delays the others.
+ */
+class TaskEventQueue {
+    
+    /**
+     * Event to send, or a heartbeat when the event is null.
+     * 
+     * @param id    Sequence number of the feed, sent as the SSE event ID
+     * @param event The event, or null for a heartbeat
+     */
+    record Item(long id, TaskEventDTO event) {
+        
+        boolean isHeartbeat() {
+            return event == null;
+        }
+    }
+    
+    private final BlockingQueue<Item> items;
+    
+    TaskEventQueue(int capacity) {
+        this.items = new ArrayBlockingQueue<>(capacity);
+    }
+    
+    /**
+     * Queue an event, replacing the pending events with a RESYNC if the buffer is full.
+     * 
+     * @param id    Sequence number of the event
+     * @param event The event
+     * @return true if pending events were dropped
+     */
+    synchronized boolean offer(long id, TaskEventDTO event) {
+        if (items.offer(new Item(id, event))) {
+            return false;
+        }
+        items.clear();
+        items.offer(new Item(id, TaskEventDTO.resync()));
+        return true;
+    }
+    
+    /**
+     * Queue a heartbeat, unless events are already pending: they keep the connection alive on their own.
+     * 
+     * @param id Current sequence number of the feed
+     */
+    synchronized void offerHeartbeat(long id) {
+        if (items.isEmpty()) {
+            items.offer(new Item(id, null));
+        }
+    }
+    
+    /**
+     * Wait for the next item to send.
+     * 
+     * @return The item
+     * @throws InterruptedException if the subscriber is closed while waiting
+     */
+    Item take() throws InterruptedException {
+        return items.take();
+    }
+    
+    int size() {
+        return items.size();
+    }
+}
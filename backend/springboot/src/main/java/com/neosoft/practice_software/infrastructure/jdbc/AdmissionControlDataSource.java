@@ -0,0 +1,84 @@
+package com.neosoft.practice_software.infrastructure.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource taking a {@link DatabaseAdmission} permit before borrowing a connection,
+ * and giving it back when the connection is closed.
+ */
+public class AdmissionControlDataSource extends DelegatingDataSource {
+    
+    private final DatabaseAdmission admission;
+    
+    public AdmissionControlDataSource(DataSource targetDataSource, DatabaseAdmission admission) {
+        super(targetDataSource);
+        this.admission = admission;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        admission.acquire();
+        try {
+            return withPermit(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        admission.acquire();
+        try {
+            return withPermit(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+    }
+    
+    /**
+     * Wrap a connection so that closing it releases the permit, once.
+     * 
+     * @param connection The pooled connection
+     * @return The wrapped connection
+     */
+    private Connection withPermit(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("close")) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                admission.release();
+                            }
+                        }
+                        return null;
+                    }
+                    if (name.equals("isClosed") && released.get()) {
+                        return true;
+                    }
+                    if (name.equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (name.equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
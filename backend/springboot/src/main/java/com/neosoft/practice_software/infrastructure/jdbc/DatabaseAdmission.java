@@ -0,0 +1,69 @@
+package com.neosoft.practice_software.infrastructure.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fair limit on the number of threads holding a database connection.
+ * <p>
+ * With virtual threads, thousands of requests may ask for a connection at once. Waiting on a fair semaphore
+ * parks them cheaply and serves them in arrival order, while the pool only sees as many borrowers as it has
+ * connections.
+ */
+public class DatabaseAdmission implements MeterBinder {
+    
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Duration timeout;
+    
+    public DatabaseAdmission(int maxConcurrent, Duration timeout) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("max-concurrent must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.timeout = timeout;
+    }
+    
+    /**
+     * Wait for a permit.
+     * 
+     * @throws SQLTransientConnectionException if no permit was released before the timeout
+     */
+    void acquire() throws SQLTransientConnectionException {
+        try {
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "No database permit available after " + timeout.toMillis() + "ms (" + maxConcurrent
+                                + " in use, " + permits.getQueueLength() + " waiting)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+    }
+    
+    void release() {
+        permits.release();
+    }
+    
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("db.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a database permit")
+                .register(registry);
+        Gauge.builder("db.admission.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("Threads holding a database permit")
+                .register(registry);
+    }
+}
@@ -0,0 +1,53 @@
+package com.neosoft.practice_software.infrastructure.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Puts the application DataSource behind a {@link DatabaseAdmission} limit.
+ * Enabled by app.db.admission.enabled, see the virtual-threads profile.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.admission.enabled", havingValue = "true")
+public class DatabaseAdmissionConfig {
+    
+    /**
+     * The limit defaults to the pool size, so that a thread holding a permit never waits for a connection.
+     * 
+     * @param maxConcurrent Maximum number of threads holding a connection
+     * @param timeout       Maximum wait for a permit
+     * @return The admission limit
+     */
+    @Bean
+    public DatabaseAdmission databaseAdmission(
+            @Value("${app.db.admission.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${app.db.admission.timeout:5s}") Duration timeout) {
+        return new DatabaseAdmission(maxConcurrent, timeout);
+    }
+    
+    /**
+     * Wrap the DataSource once initialized. Static, as bean post processors are created before the other beans.
+     * 
+     * @param admission The admission limit, resolved lazily
+     * @return The post processor
+     */
+    @Bean
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(ObjectProvider<DatabaseAdmission> admission) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlDataSource)) {
+                    return new AdmissionControlDataSource(dataSource, admission.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
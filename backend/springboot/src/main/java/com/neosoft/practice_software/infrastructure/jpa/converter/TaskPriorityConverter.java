@@ -0,0 +1,22 @@
+package com.neosoft.practice_software.infrastructure.jpa.converter;
+
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a task priority as its SMALLINT code.
+ */
+@Converter
+public class TaskPriorityConverter implements AttributeConverter<TaskPriority, Short> {
+    
+    @Override
+    public Short convertToDatabaseColumn(TaskPriority priority) {
+        return priority == null ? null : priority.getCode();
+    }
+    
+    @Override
+    public TaskPriority convertToEntityAttribute(Short code) {
+        return code == null ? null : TaskPriority.fromCode(code);
+    }
+}
@@ -0,0 +1,22 @@
+package com.neosoft.practice_software.infrastructure.jpa.converter;
+
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a task status as its SMALLINT code.
+ */
+@Converter
+public class TaskStatusConverter implements AttributeConverter<TaskStatus, Short> {
+    
+    @Override
+    public Short convertToDatabaseColumn(TaskStatus status) {
+        return status == null ? null : status.getCode();
+    }
+    
+    @Override
+    public TaskStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : TaskStatus.fromCode(code);
+    }
+}
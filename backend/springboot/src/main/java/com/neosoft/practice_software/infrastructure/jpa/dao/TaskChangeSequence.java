@@ -0,0 +1,123 @@
+package com.neosoft.practice_software.infrastructure.jpa.dao;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Change sequence numbers of the task writes, and the watermark up to which they can be read safely.
+ * <p>
+ * Numbers are taken in order but committed in any order: a reader that returned number 8 while 7 was still
+ * uncommitted would make its client skip 7 for good. The watermark is therefore kept below the smallest number
+ * of the transactions still running, except the reader's own ones.
+ * Numbers are allocated in memory from the greatest one stored, which assumes a single application instance.
+ */
+class TaskChangeSequence {
+    
+    private final LongSupplier storedMaximum;
+    private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    /**
+     * Last allocated number, -1 until loaded from the database.
+     */
+    private long last = -1;
+    
+    /**
+     * @param storedMaximum Query of the greatest number stored, run on first use
+     */
+    TaskChangeSequence(LongSupplier storedMaximum) {
+        this.storedMaximum = storedMaximum;
+    }
+    
+    /**
+     * Allocate the number of a write, held in flight until the current transaction completes.
+     * 
+     * @return The change sequence number
+     */
+    long next() {
+        long value;
+        lock.lock();
+        try {
+            value = current() + 1;
+            last = value;
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                inFlight.add(value);
+            }
+        } finally {
+            lock.unlock();
+        }
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            ownNumbers().add(value);
+        }
+        return value;
+    }
+    
+    /**
+     * Get the greatest number whose writes are all committed, or belong to the current transaction.
+     * 
+     * @return The watermark
+     */
+    long watermark() {
+        long watermark;
+        lock.lock();
+        try {
+            watermark = current();
+        } finally {
+            lock.unlock();
+        }
+        
+        @SuppressWarnings("unchecked")
+        Set<Long> own = TransactionSynchronizationManager.isSynchronizationActive()
+                ? (Set<Long>) TransactionSynchronizationManager.getResource(this)
+                : null;
+        for (Long value : inFlight) {
+            if (own == null || !own.contains(value)) {
+                return Math.min(watermark, value - 1);
+            }
+        }
+        return watermark;
+    }
+    
+    /**
+     * Last allocated number, loaded on first use. Called with the lock held.
+     * 
+     * @return The number
+     */
+    private long current() {
+        if (last < 0) {
+            last = storedMaximum.getAsLong();
+        }
+        return last;
+    }
+    
+    /**
+     * Numbers allocated by the current transaction, released from the in-flight set when it completes.
+     * 
+     * @return The mutable set of numbers
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> ownNumbers() {
+        Set<Long> own = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (own == null) {
+            Set<Long> numbers = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, numbers);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    inFlight.removeAll(numbers);
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeSequence.this);
+                }
+            });
+            own = numbers;
+        }
+        return own;
+    }
+}
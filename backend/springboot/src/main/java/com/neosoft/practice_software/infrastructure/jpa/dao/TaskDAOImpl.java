@@ -1,49 +1,229 @@
 package com.neosoft.practice_software.infrastructure.jpa.dao;
 
 import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.domain.exception.VersionConflictException;
+import com.neosoft.practice_software.domain.model.DataVersion;
 import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChange;
+import com.neosoft.practice_software.domain.model.TaskChangeEvent;
+import com.neosoft.practice_software.domain.model.TaskChangeToken;
+import com.neosoft.practice_software.domain.model.TaskCursor;
+import com.neosoft.practice_software.domain.model.TaskSort;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskArchiveCheckpointEntity;
 import com.neosoft.practice_software.infrastructure.jpa.entity.TaskEntity;
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskTombstoneEntity;
+import com.neosoft.practice_software.infrastructure.jpa.entity.UserEntity;
 import com.neosoft.practice_software.infrastructure.jpa.mapper.TaskEntityMapper;
+import com.neosoft.practice_software.infrastructure.jpa.repository.AssigneeTitleView;
+import com.neosoft.practice_software.infrastructure.jpa.repository.DataVersionView;
+import com.neosoft.practice_software.infrastructure.jpa.repository.JpaTaskArchiveCheckpointRepository;
+import com.neosoft.practice_software.infrastructure.jpa.repository.JpaTaskArchiveRepository;
 import com.neosoft.practice_software.infrastructure.jpa.repository.JpaTaskRepository;
+import com.neosoft.practice_software.infrastructure.jpa.repository.JpaTaskTombstoneRepository;
+import com.neosoft.practice_software.infrastructure.jpa.repository.TaskEstimationView;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * JPA implementation of TaskDAO.
+ * <p>
+ * Every write stamps the tasks it changes with a new change sequence number, and deletions leave a tombstone
+ * with theirs, so that clients can fetch only what changed since their last synchronization.
+ * <p>
+ * Archived tasks are moved from tasks to tasks_archive by INSERT ... SELECT and DELETE statements. When tasks is
+ * partitioned on its archived flag (app.tasks.archive.partitioned, PostgreSQL only), tasks_archive is the
+ * archive partition and the flag is updated instead, PostgreSQL moving the rows. Either way the archived tasks
+ * are read through TaskArchiveEntity, and keep their change sequence number so that it is never reused.
  */
 @Repository
 public class TaskDAOImpl implements TaskDAO {
     
+    /**
+     * Rows flushed per JDBC batch, aligned with hibernate.jdbc.batch_size.
+     */
+    static final int BATCH_SIZE = 500;
+    
+    /**
+     * Maximum number of values bound in a single IN clause.
+     */
+    static final int IN_CLAUSE_SIZE = 1000;
+    
+    /**
+     * ID of the single row of the archive checkpoint.
+     */
+    static final short CHECKPOINT_ID = 1;
+    
+    /**
+     * Update date of the position before every task, until a first task is archived.
+     */
+    private static final LocalDateTime CHECKPOINT_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
     private final JpaTaskRepository repository;
+    private final JpaTaskTombstoneRepository tombstoneRepository;
+    private final JpaTaskArchiveRepository archiveRepository;
+    private final JpaTaskArchiveCheckpointRepository checkpointRepository;
     private final TaskEntityMapper mapper;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskChangeSequence changeSequence;
+    private final boolean partitioned;
     
-    public TaskDAOImpl(JpaTaskRepository repository, TaskEntityMapper mapper) {
+    public TaskDAOImpl(JpaTaskRepository repository, JpaTaskTombstoneRepository tombstoneRepository,
+                       JpaTaskArchiveRepository archiveRepository,
+                       JpaTaskArchiveCheckpointRepository checkpointRepository,
+                       TaskEntityMapper mapper, EntityManager entityManager,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${app.tasks.archive.partitioned:false}") boolean partitioned) {
         this.repository = repository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.archiveRepository = archiveRepository;
+        this.checkpointRepository = checkpointRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.partitioned = partitioned;
+        this.changeSequence = new TaskChangeSequence(() -> Math.max(
+                Math.max(repository.findMaxChangeSeq(), archiveRepository.findMaxChangeSeq()),
+                tombstoneRepository.findMaxChangeSeq()));
+    }
+    
+    @Override
+    public List<Task> findAll(boolean withAssignee, boolean includeArchived) {
+        List<Task> tasks = withAssignee
+                ? mapper.toBOs(repository.findAllWithAssignee())
+                : mapper.toBOsWithoutAssignee(repository.findAll());
+        if (includeArchived) {
+            tasks.addAll(withAssignee
+                    ? mapper.archiveToBOs(archiveRepository.findAllWithAssignee())
+                    : mapper.archiveToBOsWithoutAssignee(archiveRepository.findAll()));
+        }
+        return tasks;
+    }
+    
+    @Override
+    public void streamAll(Consumer<Task> consumer) {
+        try (Stream<TaskEntity> entities = repository.streamAll()) {
+            Iterator<TaskEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                TaskEntity entity = iterator.next();
+                consumer.accept(mapper.toBOWithoutAssignee(entity));
+                // Reason: the persistence context would otherwise keep every streamed row
+                entityManager.detach(entity);
+            }
+        }
+    }
+    
+    @Override
+    public List<Task> findPage(TaskCursor after, TaskSort sort, int limit, boolean withAssignee) {
+        List<TaskEntity> entities = repository.findPage(
+                sort.getProperty(),
+                sort.isAscending(),
+                after != null ? after.getSortValue() : null,
+                after != null ? after.getId() : null,
+                limit,
+                withAssignee);
+        return withAssignee ? mapper.toBOs(entities) : mapper.toBOsWithoutAssignee(entities);
     }
     
     @Override
-    public List<Task> findAll() {
-        return mapper.toBOs(repository.findAll());
+    public List<Task> findByStatus(TaskStatus status, boolean withAssignee, boolean includeArchived) {
+        List<Task> tasks = withAssignee
+                ? mapper.toBOs(repository.findWithAssigneeByStatus(status))
+                : mapper.toBOsWithoutAssignee(repository.findByStatus(status));
+        if (includeArchived) {
+            tasks.addAll(withAssignee
+                    ? mapper.archiveToBOs(archiveRepository.findWithAssigneeByStatus(status))
+                    : mapper.archiveToBOsWithoutAssignee(archiveRepository.findByStatus(status)));
+        }
+        return tasks;
     }
     
     @Override
-    public List<Task> findByStatus(String status) {
-        return mapper.toBOs(repository.findByStatus(status));
+    public List<Task> findByAssigneeId(UUID assigneeId, boolean withAssignee, boolean includeArchived) {
+        List<Task> tasks = withAssignee
+                ? mapper.toBOs(repository.findWithAssigneeByAssigneeId(assigneeId))
+                : mapper.toBOsWithoutAssignee(repository.findByAssigneeId(assigneeId));
+        if (includeArchived) {
+            tasks.addAll(withAssignee
+                    ? mapper.archiveToBOs(archiveRepository.findWithAssigneeByAssigneeId(assigneeId))
+                    : mapper.archiveToBOsWithoutAssignee(archiveRepository.findByAssigneeId(assigneeId)));
+        }
+        return tasks;
     }
     
     @Override
-    public List<Task> findByAssigneeId(UUID assigneeId) {
-        return mapper.toBOs(repository.findByAssigneeId(assigneeId));
+    public int updateStatus(TaskStatus from, TaskStatus to, UUID assigneeId) {
+        LocalDateTime now = LocalDateTime.now();
+        long changeSeq = changeSequence.next();
+        return assigneeId == null
+                ? repository.updateStatus(from, to, now, changeSeq)
+                : repository.updateStatusByAssigneeId(from, to, assigneeId, now, changeSeq);
+    }
+    
+    @Override
+    public int updateStatusByIds(Collection<UUID> ids, TaskStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        long changeSeq = changeSequence.next();
+        List<UUID> distinctIds = new ArrayList<>(new HashSet<>(ids));
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, distinctIds.size()));
+            restore(chunk);
+            updated += repository.updateStatusByIds(chunk, to, now, changeSeq);
+        }
+        return updated;
     }
     
     @Override
     public Optional<Task> findById(UUID id) {
-        return repository.findById(id).map(mapper::toBO);
+        return repository.findWithAssigneeById(id).map(mapper::toBO)
+                .or(() -> archiveRepository.findWithAssigneeById(id).map(mapper::toBO));
+    }
+    
+    @Override
+    public List<Task> findByIds(Collection<UUID> ids) {
+        List<UUID> distinctIds = new ArrayList<>(new HashSet<>(ids));
+        List<Task> tasks = new ArrayList<>(distinctIds.size());
+        for (int from = 0; from < distinctIds.size(); from += IN_CLAUSE_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, distinctIds.size()));
+            tasks.addAll(mapper.toBOs(repository.findWithAssigneeByIdIn(chunk)));
+        }
+        return tasks;
+    }
+    
+    @Override
+    public List<Task> findForEstimation(Collection<UUID> ids, UUID assigneeId, TaskStatus status, int limit) {
+        if (ids == null) {
+            return toEstimatedTasks(repository.findEstimationViews(null, assigneeId, status, limit));
+        }
+        
+        List<UUID> distinctIds = new ArrayList<>(new HashSet<>(ids));
+        List<Task> tasks = new ArrayList<>(Math.min(distinctIds.size(), limit));
+        for (int from = 0; from < distinctIds.size() && tasks.size() < limit; from += IN_CLAUSE_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, distinctIds.size()));
+            tasks.addAll(toEstimatedTasks(
+                    repository.findEstimationViews(chunk, assigneeId, status, limit - tasks.size())));
+        }
+        return tasks;
     }
     
     @Override
@@ -61,24 +241,71 @@ public class TaskDAOImpl implements TaskDAO {
             entity.setCreatedAt(now);
             entity.setUpdatedAt(now);
         }
+        entity.setChangeSeq(changeSequence.next());
         
         entity = repository.save(entity);
         return mapper.toBO(entity);
     }
     
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        List<Task> saved = new ArrayList<>(tasks.size());
+        LocalDateTime now = LocalDateTime.now();
+        // One number for the whole creation, the (change_seq, id) order still tells the tasks apart
+        long changeSeq = changeSequence.next();
+        
+        for (int from = 0; from < tasks.size(); from += BATCH_SIZE) {
+            List<TaskEntity> batch = new ArrayList<>(BATCH_SIZE);
+            for (Task task : tasks.subList(from, Math.min(from + BATCH_SIZE, tasks.size()))) {
+                TaskEntity entity = mapper.toEntity(task);
+                entity.setCreatedAt(now);
+                entity.setUpdatedAt(now);
+                entity.setChangeSeq(changeSeq);
+                batch.add(entity);
+            }
+            
+            // IDs are generated in the JVM, so the inserts stay batched until the flush
+            repository.saveAll(batch);
+            entityManager.flush();
+            for (TaskEntity entity : batch) {
+                saved.add(mapper.toBOWithoutAssignee(entity));
+            }
+            entityManager.clear();
+        }
+        
+        return saved;
+    }
+    
     @Override
     public Task update(Task task) {
-        // First check if the task exists
+        // First check if the task exists (no query if it was already loaded in this transaction)
         Optional<TaskEntity> existingTaskOpt = repository.findById(task.getId());
+        if (existingTaskOpt.isEmpty() && restore(List.of(task.getId())) > 0) {
+            existingTaskOpt = repository.findById(task.getId());
+        }
         
         if (existingTaskOpt.isPresent()) {
             TaskEntity existingTask = existingTaskOpt.get();
+            if (task.getVersion() != null && !task.getVersion().equals(existingTask.getVersion())) {
+                throw new VersionConflictException("Task " + task.getId() + " is at version "
+                        + existingTask.getVersion() + ", not " + task.getVersion());
+            }
+            
+            UUID previousAssigneeId = existingTask.getAssigneeId();
             mapper.updateEntityFromBO(task, existingTask);
+            if (!Objects.equals(previousAssigneeId, existingTask.getAssigneeId())) {
+                // Keep the read-only association in line with the new assignee ID
+                existingTask.setAssignee(existingTask.getAssigneeId() == null
+                        ? null
+                        : entityManager.getReference(UserEntity.class, existingTask.getAssigneeId()));
+            }
             
             // Always update the updatedAt field
             existingTask.setUpdatedAt(LocalDateTime.now());
+            existingTask.setChangeSeq(changeSequence.next());
             
-            existingTask = repository.save(existingTask);
+            // Versioned UPDATE, a concurrent change fails here with an optimistic locking exception
+            existingTask = repository.saveAndFlush(existingTask);
             return mapper.toBO(existingTask);
         } else {
             // If the task doesn't exist, just save it as a new one
@@ -86,13 +313,177 @@ public class TaskDAOImpl implements TaskDAO {
         }
     }
     
+    @Override
+    public boolean deleteById(UUID id) {
+        long changeSeq = changeSequence.next();
+        LocalDateTime now = LocalDateTime.now();
+        // A single-row update: the row itself is removed later, in batches, by purgeDeleted
+        int deleted = repository.softDeleteById(id, now, changeSeq);
+        if (deleted == 0 && restore(List.of(id)) > 0) {
+            deleted = repository.softDeleteById(id, now, changeSeq);
+        }
+        if (deleted == 0) {
+            return false;
+        }
+        tombstoneRepository.save(new TaskTombstoneEntity(id, changeSeq, now));
+        return true;
+    }
+    
+    @Override
+    public int purgeDeleted(LocalDateTime before, int limit) {
+        List<UUID> ids = repository.findIdsDeletedBefore(before, limit);
+        return ids.isEmpty() ? 0 : repository.purgeByIds(ids);
+    }
+    
+    @Override
+    public int purgeTombstones(LocalDateTime before, int limit) {
+        List<UUID> ids = tombstoneRepository.findIdsDeletedBefore(before, Limit.of(limit));
+        return ids.isEmpty() ? 0 : tombstoneRepository.deleteByTaskIds(ids);
+    }
+    
+    @Override
+    public int archiveDone(LocalDateTime before, int limit) {
+        TaskArchiveCheckpointEntity checkpoint = checkpointRepository.findById(CHECKPOINT_ID)
+                .orElseGet(() -> new TaskArchiveCheckpointEntity(CHECKPOINT_ID, CHECKPOINT_START, new UUID(0, 0)));
+        // Starting from the checkpoint skips the old tasks that are not DONE, which stay in the table
+        List<UUID> ids = repository.findIdsToArchive(before, checkpoint.getUpdatedAt(), checkpoint.getTaskId(), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        if (partitioned) {
+            repository.markArchived(ids, now);
+        } else {
+            // The rows are locked since their selection, the copy and the deletion see the same ones
+            archiveRepository.copyFromTasks(ids, now);
+            repository.deleteArchivedByIds(ids);
+        }
+        
+        // The in-memory statistics and search index only cover the hot tasks
+        eventPublisher.publishEvent(TaskChangeEvent.archived(ids));
+        
+        UUID lastId = ids.get(ids.size() - 1);
+        checkpointRepository.save(new TaskArchiveCheckpointEntity(CHECKPOINT_ID,
+                archiveRepository.findUpdatedAtById(lastId).orElseThrow(), lastId));
+        return ids.size();
+    }
+    
+    @Override
+    public long getChangeWatermark() {
+        return changeSequence.watermark();
+    }
+    
+    @Override
+    public List<TaskChange> findChanges(TaskChangeToken after, long upTo, int limit, boolean withDeletions) {
+        List<TaskChange> changes = new ArrayList<>();
+        for (TaskEntity entity : repository.findChangedAfter(after.getChangeSeq(), after.getId(), upTo,
+                Limit.of(limit))) {
+            changes.add(new TaskChange(entity.getChangeSeq(), entity.getId(), mapper.toBOWithoutAssignee(entity)));
+        }
+        if (withDeletions) {
+            for (TaskTombstoneEntity tombstone : tombstoneRepository.findDeletedAfter(after.getChangeSeq(),
+                    after.getId(), upTo, Limit.of(limit))) {
+                changes.add(new TaskChange(tombstone.getChangeSeq(), tombstone.getTaskId(), null));
+            }
+        }
+        
+        // Both lists are sorted and limited: the first changes of their merge are the first changes overall
+        changes.sort(TaskChange.ORDER);
+        return changes.size() > limit ? new ArrayList<>(changes.subList(0, limit)) : changes;
+    }
+    
     @Override
     public boolean existsById(UUID id) {
-        return repository.existsById(id);
+        return repository.existsById(id) || archiveRepository.existsById(id);
     }
     
     @Override
     public boolean existsByTitleAndAssigneeId(String title, UUID assigneeId) {
-        return repository.existsByTitleAndAssigneeId(title, assigneeId);
+        // Archived titles stay taken, so that restoring a task never clashes with a newer one
+        return repository.existsByTitleAndAssigneeId(title, assigneeId)
+                || archiveRepository.existsByTitleAndAssigneeId(title, assigneeId);
+    }
+    
+    @Override
+    public Map<UUID, Set<String>> findTitlesByAssignees(Collection<UUID> assigneeIds, Collection<String> titles) {
+        Map<UUID, Set<String>> titlesByAssignee = new HashMap<>();
+        if (assigneeIds.isEmpty() || titles.isEmpty()) {
+            return titlesByAssignee;
+        }
+        
+        // Both lists are chunked, so that no query binds more than 2 * IN_CLAUSE_SIZE parameters
+        List<UUID> distinctAssignees = new ArrayList<>(new HashSet<>(assigneeIds));
+        List<String> distinctTitles = new ArrayList<>(new HashSet<>(titles));
+        for (int assigneeFrom = 0; assigneeFrom < distinctAssignees.size(); assigneeFrom += IN_CLAUSE_SIZE) {
+            List<UUID> assigneeChunk = distinctAssignees.subList(assigneeFrom,
+                    Math.min(assigneeFrom + IN_CLAUSE_SIZE, distinctAssignees.size()));
+            for (int titleFrom = 0; titleFrom < distinctTitles.size(); titleFrom += IN_CLAUSE_SIZE) {
+                List<String> titleChunk = distinctTitles.subList(titleFrom,
+                        Math.min(titleFrom + IN_CLAUSE_SIZE, distinctTitles.size()));
+                for (AssigneeTitleView view : repository.findAssigneeTitles(assigneeChunk, titleChunk)) {
+                    titlesByAssignee.computeIfAbsent(view.getAssigneeId(), id -> new HashSet<>()).add(view.getTitle());
+                }
+                for (AssigneeTitleView view : archiveRepository.findAssigneeTitles(assigneeChunk, titleChunk)) {
+                    titlesByAssignee.computeIfAbsent(view.getAssigneeId(), id -> new HashSet<>()).add(view.getTitle());
+                }
+            }
+        }
+        return titlesByAssignee;
+    }
+    
+    @Override
+    public DataVersion getDataVersion(boolean includeArchived) {
+        DataVersionView view = repository.findDataVersion();
+        DataVersion version = new DataVersion(view.getCount(), view.getLastUpdatedAt());
+        if (!includeArchived) {
+            return version;
+        }
+        DataVersionView archived = archiveRepository.findDataVersion();
+        return version.combine(new DataVersion(archived.getCount(), archived.getLastUpdatedAt()));
+    }
+    
+    /**
+     * Move archived tasks back to the hot table, before they are written.
+     * 
+     * @param ids Task IDs, tasks that are not archived are ignored
+     * @return Number of restored tasks
+     */
+    private int restore(Collection<UUID> ids) {
+        List<Task> archived = mapper.archiveToBOsWithoutAssignee(archiveRepository.findAllById(ids));
+        if (archived.isEmpty()) {
+            return 0;
+        }
+        List<UUID> archivedIds = archived.stream().map(Task::getId).toList();
+        int restored;
+        if (partitioned) {
+            restored = repository.markRestored(archivedIds);
+        } else {
+            restored = archiveRepository.copyToTasks(archivedIds);
+            archiveRepository.deleteRestoredByIds(archivedIds);
+        }
+        // Back in the in-memory statistics and search index, before the change that restored them
+        archived.forEach(task -> eventPublisher.publishEvent(TaskChangeEvent.restored(task)));
+        return restored;
+    }
+    
+    /**
+     * Convert estimation projections to tasks with only the estimated fields set.
+     * 
+     * @param views The projections
+     * @return The partial tasks
+     */
+    private static List<Task> toEstimatedTasks(List<TaskEstimationView> views) {
+        List<Task> tasks = new ArrayList<>(views.size());
+        for (TaskEstimationView view : views) {
+            Task task = new Task();
+            task.setId(view.id());
+            task.setStatus(view.status());
+            task.setPriority(view.priority());
+            task.setDescription(view.description());
+            task.setUpdatedAt(view.updatedAt());
+            tasks.add(task);
+        }
+        return tasks;
     }
 } 
\ No newline at end of file
@@ -1,29 +1,46 @@
 package com.neosoft.practice_software.infrastructure.jpa.dao;
 
 import com.neosoft.practice_software.application.dao.UserDAO;
+import com.neosoft.practice_software.domain.exception.VersionConflictException;
+import com.neosoft.practice_software.domain.model.DataVersion;
 import com.neosoft.practice_software.domain.model.User;
+import com.neosoft.practice_software.infrastructure.cache.CacheConfig;
 import com.neosoft.practice_software.infrastructure.jpa.entity.UserEntity;
 import com.neosoft.practice_software.infrastructure.jpa.mapper.UserEntityMapper;
+import com.neosoft.practice_software.infrastructure.jpa.repository.DataVersionView;
 import com.neosoft.practice_software.infrastructure.jpa.repository.JpaUserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * JPA implementation of UserDAO.
+ * Lookups by ID are cached, and writes evict them once their transaction commits.
+ * Cached users are copied in and out, so callers never share the cached instance.
  */
 @Repository
 public class UserDAOImpl implements UserDAO {
     
     private final JpaUserRepository repository;
     private final UserEntityMapper mapper;
+    private final Cache usersCache;
     
-    public UserDAOImpl(JpaUserRepository repository, UserEntityMapper mapper) {
+    public UserDAOImpl(JpaUserRepository repository, UserEntityMapper mapper, CacheManager cacheManager) {
         this.repository = repository;
         this.mapper = mapper;
+        this.usersCache = cacheManager.getCache(CacheConfig.USERS);
     }
     
     @Override
@@ -33,7 +50,15 @@ public class UserDAOImpl implements UserDAO {
     
     @Override
     public Optional<User> findById(UUID id) {
-        return repository.findById(id).map(mapper::toBO);
+        User cached = usersCache.get(id, User.class);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        
+        Optional<User> loaded = repository.findById(id).map(mapper::toBO);
+        // Put after commit like the other cache operations, through the transaction-aware cache
+        loaded.ifPresent(user -> usersCache.put(id, copy(user)));
+        return loaded;
     }
     
     @Override
@@ -42,6 +67,10 @@ public class UserDAOImpl implements UserDAO {
     }
     
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.USERS, key = "#user.id", condition = "#user.id != null"),
+        @CacheEvict(cacheNames = CacheConfig.USER_EXISTS, key = "#user.id", condition = "#user.id != null")
+    })
     public User save(User user) {
         UserEntity entity = mapper.toEntity(user);
         
@@ -57,18 +86,27 @@ public class UserDAOImpl implements UserDAO {
     }
     
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.USERS, key = "#user.id"),
+        @CacheEvict(cacheNames = CacheConfig.USER_EXISTS, key = "#user.id")
+    })
     public User update(User user) {
         // First check if the user exists
         Optional<UserEntity> existingUserOpt = repository.findById(user.getId());
         
         if (existingUserOpt.isPresent()) {
             UserEntity existingUser = existingUserOpt.get();
+            if (user.getVersion() != null && !user.getVersion().equals(existingUser.getVersion())) {
+                throw new VersionConflictException("User " + user.getId() + " is at version "
+                        + existingUser.getVersion() + ", not " + user.getVersion());
+            }
             mapper.updateEntityFromBO(user, existingUser);
             
             // Always update the updatedAt field
             existingUser.setUpdatedAt(LocalDateTime.now());
             
-            existingUser = repository.save(existingUser);
+            // Versioned UPDATE, a concurrent change fails here with an optimistic locking exception
+            existingUser = repository.saveAndFlush(existingUser);
             return mapper.toBO(existingUser);
         } else {
             // If the user doesn't exist, just save it as a new one
@@ -77,17 +115,51 @@ public class UserDAOImpl implements UserDAO {
     }
     
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.USER_EXISTS, key = "#id")
+    })
     public void deleteById(UUID id) {
         repository.deleteById(id);
     }
     
     @Override
+    @Cacheable(cacheNames = CacheConfig.USER_EXISTS, key = "#id")
     public boolean existsById(UUID id) {
         return repository.existsById(id);
     }
     
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        List<UUID> distinctIds = new ArrayList<>(new HashSet<>(ids));
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < distinctIds.size(); from += TaskDAOImpl.IN_CLAUSE_SIZE) {
+            List<UUID> chunk = distinctIds.subList(from,
+                    Math.min(from + TaskDAOImpl.IN_CLAUSE_SIZE, distinctIds.size()));
+            existing.addAll(repository.findExistingIds(chunk));
+        }
+        return existing;
+    }
+    
     @Override
     public boolean existsByUsername(String username) {
         return repository.existsByUsername(username);
     }
+    
+    @Override
+    public DataVersion getDataVersion() {
+        DataVersionView view = repository.findDataVersion();
+        return new DataVersion(view.getCount(), view.getLastUpdatedAt());
+    }
+    
+    /**
+     * Copy a user so that callers never share the cached instance.
+     * 
+     * @param user User to copy
+     * @return The copy
+     */
+    private static User copy(User user) {
+        return new User(user.getId(), user.getUsername(), user.getEmail(), user.getRole(), user.getCreatedAt(),
+                user.getUpdatedAt(), user.getVersion());
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.neosoft.practice_software.infrastructure.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity holding the last task archived, in (updated_at, id) order, from which archiving resumes.
+ * The table has a single row.
+ */
+@Entity
+@Table(name = "task_archive_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskArchiveCheckpointEntity {
+    
+    @Id
+    private short id;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+}
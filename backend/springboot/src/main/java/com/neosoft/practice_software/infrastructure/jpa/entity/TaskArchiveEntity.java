@@ -0,0 +1,68 @@
+package com.neosoft.practice_software.infrastructure.jpa.entity;
+
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.jpa.converter.TaskPriorityConverter;
+import com.neosoft.practice_software.infrastructure.jpa.converter.TaskStatusConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity representation of an archived Task.
+ * Rows are moved in and out of the archive by native statements, see TaskDAOImpl, and are never written here.
+ */
+@Entity
+@Table(name = "tasks_archive")
+@Immutable
+@Getter
+@NoArgsConstructor
+public class TaskArchiveEntity {
+    
+    @Id
+    private UUID id;
+    
+    @Column(nullable = false)
+    private String title;
+    
+    @Column(columnDefinition = "TEXT")
+    private String description;
+    
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(nullable = false)
+    private TaskStatus status;
+    
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column
+    private TaskPriority priority;
+    
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @Column(name = "assignee_id")
+    private UUID assigneeId;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id", insertable = false, updatable = false)
+    private UserEntity assignee;
+    
+    @Column(nullable = false)
+    private Long version;
+    
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+    
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
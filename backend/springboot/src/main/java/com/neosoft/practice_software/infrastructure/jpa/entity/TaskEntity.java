@@ -1,21 +1,28 @@
 package com.neosoft.practice_software.infrastructure.jpa.entity;
 
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.jpa.converter.TaskPriorityConverter;
+import com.neosoft.practice_software.infrastructure.jpa.converter.TaskStatusConverter;
+import com.neosoft.practice_software.infrastructure.jpa.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * JPA Entity representation of a Task.
+ * Deleted tasks stay in the table until purged, and are filtered out of every query on this entity.
+ * Archived tasks are read through {@link TaskArchiveEntity}.
  */
 @Entity
-@Table(name = "tasks", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"assignee_id", "title"})
-})
+@Table(name = "tasks")
+@SQLRestriction("deleted_at is null and archived = false")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +30,7 @@ import java.util.UUID;
 public class TaskEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @Column(nullable = false)
@@ -32,11 +39,16 @@ public class TaskEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    /**
+     * Stored as a SMALLINT code, see {@link TaskStatus#getCode()}.
+     */
+    @Convert(converter = TaskStatusConverter.class)
     @Column(nullable = false)
-    private String status;
+    private TaskStatus status;
     
+    @Convert(converter = TaskPriorityConverter.class)
     @Column
-    private String priority;
+    private TaskPriority priority;
     
     @Column(name = "due_date")
     private LocalDate dueDate;
@@ -44,7 +56,7 @@ public class TaskEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
     @Column(name = "assignee_id")
@@ -54,6 +66,25 @@ public class TaskEntity {
     @JoinColumn(name = "assignee_id", insertable = false, updatable = false)
     private UserEntity assignee;
     
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
+    /**
+     * Change sequence number of the last write, see the incremental synchronization in TaskDAOImpl.
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+    
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
+    /**
+     * True only for the rows of the archive partition of a partitioned table, which are not loaded here.
+     */
+    @Column(nullable = false, insertable = false, updatable = false)
+    private boolean archived;
+    
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,35 @@
+package com.neosoft.practice_software.infrastructure.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity recording the deletion of a task, so that synchronizing clients learn about it.
+ */
+@Entity
+@Table(name = "task_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstoneEntity {
+    
+    @Id
+    @Column(name = "task_id")
+    private UUID taskId;
+    
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+    
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
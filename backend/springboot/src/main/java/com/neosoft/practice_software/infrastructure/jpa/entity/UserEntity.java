@@ -1,5 +1,6 @@
 package com.neosoft.practice_software.infrastructure.jpa.entity;
 
+import com.neosoft.practice_software.infrastructure.jpa.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -20,7 +21,7 @@ import java.util.UUID;
 public class UserEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
     
     @Column(nullable = false, unique = true)
@@ -38,6 +39,10 @@ public class UserEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
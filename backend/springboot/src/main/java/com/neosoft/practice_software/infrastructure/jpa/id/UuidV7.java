@@ -0,0 +1,18 @@
+package com.neosoft.practice_software.infrastructure.jpa.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the identifier as a time-ordered UUID (version 7), in the application before the insert.
+ * Consecutive inserts land at the end of the primary key index instead of random pages.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,31 @@
+package com.neosoft.practice_software.infrastructure.jpa.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Hibernate generator of {@link UuidV7} identifiers.
+ * The value is known before the insert, so inserts stay in JDBC batches.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+    
+    /**
+     * Shared by all entities, so identifiers of different tables also follow generation order.
+     */
+    private static final UuidV7Source SOURCE = new UuidV7Source(System::currentTimeMillis);
+    
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return SOURCE.next();
+    }
+    
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
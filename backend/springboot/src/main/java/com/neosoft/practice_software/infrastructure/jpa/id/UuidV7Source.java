@@ -0,0 +1,60 @@
+package com.neosoft.practice_software.infrastructure.jpa.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): 48 bits of Unix milliseconds, a 12-bit counter, 62 random bits.
+ * <p>
+ * The timestamp and the counter are a single long updated by compare-and-set, so identifiers are strictly
+ * increasing without locking. The counter starts at a random value in the lower half of its range each
+ * millisecond; if it overflows, it carries into the timestamp, which then runs slightly ahead of the clock
+ * until the clock catches up. A clock going backwards is handled the same way.
+ * The random bits come from {@link ThreadLocalRandom}: identifiers are unique, not secret.
+ */
+class UuidV7Source {
+    
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 7L << COUNTER_BITS;
+    private static final long VARIANT = 1L << 63;
+    private static final long RANDOM_MASK = (1L << 62) - 1;
+    
+    private final LongSupplier clock;
+    
+    /**
+     * Timestamp shifted left of the counter, followed by the counter of the last identifier.
+     */
+    private final AtomicLong last = new AtomicLong();
+    
+    /**
+     * @param clock Current time in milliseconds since the epoch
+     */
+    UuidV7Source(LongSupplier clock) {
+        this.clock = clock;
+    }
+    
+    /**
+     * Generate an identifier greater than all the previous ones of this source.
+     * 
+     * @return The identifier
+     */
+    UUID next() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long previous;
+        long current;
+        do {
+            previous = last.get();
+            current = now > previous
+                    ? now | ThreadLocalRandom.current().nextLong(1L << (COUNTER_BITS - 1))
+                    : previous + 1;
+        } while (!last.compareAndSet(previous, current));
+        
+        long timestamp = current >>> COUNTER_BITS;
+        long counter = current & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = timestamp << 16 | VERSION | counter;
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
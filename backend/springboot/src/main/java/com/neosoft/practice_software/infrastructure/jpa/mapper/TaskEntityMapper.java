@@ -1,10 +1,13 @@
 package com.neosoft.practice_software.infrastructure.jpa.mapper;
 
 import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskArchiveEntity;
 import com.neosoft.practice_software.infrastructure.jpa.entity.TaskEntity;
+import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -23,12 +26,25 @@ public interface TaskEntityMapper {
     @Mapping(source = "assignee", target = "assignee")
     Task toBO(TaskEntity entity);
     
+    /**
+     * Convert TaskEntity to Task without touching the lazy assignee association.
+     * 
+     * @param entity The entity to convert
+     * @return The converted business object, without assignee
+     */
+    @Named("toBOWithoutAssignee")
+    @Mapping(target = "assignee", ignore = true)
+    Task toBOWithoutAssignee(TaskEntity entity);
+    
     /**
      * Convert Task to TaskEntity.
      * 
      * @param bo The business object to convert
      * @return The converted entity
      */
+    @Mapping(target = "changeSeq", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "archived", ignore = true)
     TaskEntity toEntity(Task bo);
     
     /**
@@ -39,9 +55,55 @@ public interface TaskEntityMapper {
      */
     List<Task> toBOs(List<TaskEntity> entities);
     
+    /**
+     * Convert a list of TaskEntity to a list of Task without assignees.
+     * 
+     * @param entities The entities to convert
+     * @return The converted business objects, without assignees
+     */
+    @IterableMapping(qualifiedByName = "toBOWithoutAssignee")
+    List<Task> toBOsWithoutAssignee(List<TaskEntity> entities);
+    
+    /**
+     * Convert an archived task to Task.
+     * 
+     * @param entity The entity to convert
+     * @return The converted business object
+     */
+    @Mapping(source = "assignee", target = "assignee")
+    Task toBO(TaskArchiveEntity entity);
+    
+    /**
+     * Convert an archived task to Task without touching the lazy assignee association.
+     * 
+     * @param entity The entity to convert
+     * @return The converted business object, without assignee
+     */
+    @Named("archiveToBOWithoutAssignee")
+    @Mapping(target = "assignee", ignore = true)
+    Task archiveToBOWithoutAssignee(TaskArchiveEntity entity);
+    
+    /**
+     * Convert a list of archived tasks to a list of Task.
+     * 
+     * @param entities The entities to convert
+     * @return The converted business objects
+     */
+    List<Task> archiveToBOs(List<TaskArchiveEntity> entities);
+    
+    /**
+     * Convert a list of archived tasks to a list of Task without assignees.
+     * 
+     * @param entities The entities to convert
+     * @return The converted business objects, without assignees
+     */
+    @IterableMapping(qualifiedByName = "archiveToBOWithoutAssignee")
+    List<Task> archiveToBOsWithoutAssignee(List<TaskArchiveEntity> entities);
+    
     /**
      * Update a TaskEntity from a Task.
-     * Ignores createdAt and updatedAt to preserve timestamps (updatedAt is set by DAO).
+     * Ignores createdAt and updatedAt to preserve timestamps (updatedAt is set by DAO),
+     * and version which is only managed by Hibernate.
      *
      * @param bo The business object with updated values
      * @param entity The entity to update
@@ -49,5 +111,9 @@ public interface TaskEntityMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "assignee", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "changeSeq", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    @Mapping(target = "archived", ignore = true)
     void updateEntityFromBO(Task bo, @MappingTarget TaskEntity entity);
 } 
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.neosoft.practice_software.infrastructure.jpa.mapper;
 import com.neosoft.practice_software.domain.model.User;
 import com.neosoft.practice_software.infrastructure.jpa.entity.UserEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.List;
@@ -39,9 +40,14 @@ public interface UserEntityMapper {
     
     /**
      * Update a UserEntity from a User.
+     * Ignores createdAt and updatedAt to preserve timestamps (updatedAt is set by DAO),
+     * and version which is only managed by Hibernate.
      * 
      * @param bo The business object with updated values
      * @param entity The entity to update
      */
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromBO(User bo, @MappingTarget UserEntity entity);
 } 
\ No newline at end of file
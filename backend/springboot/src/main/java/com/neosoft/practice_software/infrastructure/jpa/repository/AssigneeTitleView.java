@@ -0,0 +1,13 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of the (assignee, title) pair that must be unique among tasks.
+ */
+public interface AssigneeTitleView {
+    
+    UUID getAssigneeId();
+    
+    String getTitle();
+}
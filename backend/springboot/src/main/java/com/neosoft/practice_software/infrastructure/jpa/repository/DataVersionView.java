@@ -0,0 +1,13 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the row count and latest update date of a table.
+ */
+public interface DataVersionView {
+    
+    long getCount();
+    
+    LocalDateTime getLastUpdatedAt();
+}
@@ -0,0 +1,12 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskArchiveCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA Repository for TaskArchiveCheckpointEntity.
+ */
+@Repository
+public interface JpaTaskArchiveCheckpointRepository extends JpaRepository<TaskArchiveCheckpointEntity, Short> {
+}
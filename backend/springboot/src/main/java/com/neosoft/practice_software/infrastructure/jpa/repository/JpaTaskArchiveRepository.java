@@ -0,0 +1,159 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskArchiveEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JPA Repository for TaskArchiveEntity.
+ * The native statements copying rows between tasks and tasks_archive only apply to the unpartitioned tables.
+ */
+@Repository
+public interface JpaTaskArchiveRepository extends JpaRepository<TaskArchiveEntity, UUID> {
+    
+    /**
+     * Find all archived tasks with their assignee fetched in the same query.
+     * 
+     * @return List of all archived tasks
+     */
+    @EntityGraph(attributePaths = "assignee")
+    @Query("select a from TaskArchiveEntity a")
+    List<TaskArchiveEntity> findAllWithAssignee();
+    
+    /**
+     * Find an archived task by ID with its assignee fetched in the same query.
+     * 
+     * @param id Task ID
+     * @return Optional containing the task if archived
+     */
+    @EntityGraph(attributePaths = "assignee")
+    Optional<TaskArchiveEntity> findWithAssigneeById(UUID id);
+    
+    /**
+     * Find archived tasks by status.
+     * 
+     * @param status Task status
+     * @return List of archived tasks with the given status
+     */
+    List<TaskArchiveEntity> findByStatus(TaskStatus status);
+    
+    /**
+     * Find archived tasks by status with their assignee fetched in the same query.
+     * 
+     * @param status Task status
+     * @return List of archived tasks with the given status
+     */
+    @EntityGraph(attributePaths = "assignee")
+    List<TaskArchiveEntity> findWithAssigneeByStatus(TaskStatus status);
+    
+    /**
+     * Find archived tasks by assignee ID.
+     * 
+     * @param assigneeId Assignee ID
+     * @return List of archived tasks assigned to the given user
+     */
+    List<TaskArchiveEntity> findByAssigneeId(UUID assigneeId);
+    
+    /**
+     * Find archived tasks by assignee ID with their assignee fetched in the same query.
+     * 
+     * @param assigneeId Assignee ID
+     * @return List of archived tasks assigned to the given user
+     */
+    @EntityGraph(attributePaths = "assignee")
+    List<TaskArchiveEntity> findWithAssigneeByAssigneeId(UUID assigneeId);
+    
+    /**
+     * Check if an archived task exists by title and assignee ID.
+     * 
+     * @param title Task title
+     * @param assigneeId Assignee ID
+     * @return true if the task exists
+     */
+    boolean existsByTitleAndAssigneeId(String title, UUID assigneeId);
+    
+    /**
+     * Find the (assignee, title) pairs used by archived tasks among the given assignees and titles.
+     * 
+     * @param assigneeIds Assignee IDs
+     * @param titles Task titles
+     * @return Existing pairs
+     */
+    @Query("select a.assigneeId as assigneeId, a.title as title from TaskArchiveEntity a "
+            + "where a.assigneeId in :assigneeIds and a.title in :titles")
+    List<AssigneeTitleView> findAssigneeTitles(@Param("assigneeIds") Collection<UUID> assigneeIds,
+                                               @Param("titles") Collection<String> titles);
+    
+    /**
+     * Find the update date of an archived task.
+     * 
+     * @param id Task ID
+     * @return The update date if the task is archived
+     */
+    @Query("select a.updatedAt from TaskArchiveEntity a where a.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+    
+    /**
+     * Count the archived tasks and find their latest archiving date.
+     * 
+     * @return The aggregate
+     */
+    @Query("select count(a) as count, max(a.archivedAt) as lastUpdatedAt from TaskArchiveEntity a")
+    DataVersionView findDataVersion();
+    
+    /**
+     * Find the greatest change sequence number of the archived tasks.
+     * 
+     * @return The number, 0 without archived tasks
+     */
+    @Query("select coalesce(max(a.changeSeq), 0) from TaskArchiveEntity a")
+    long findMaxChangeSeq();
+    
+    /**
+     * Copy tasks from the hot table to the archive.
+     * 
+     * @param ids Task IDs
+     * @param now Archiving date
+     * @return Number of copied tasks
+     */
+    @Modifying
+    @Query(value = "insert into tasks_archive (id, title, description, status, priority, due_date, created_at, "
+            + "updated_at, assignee_id, version, change_seq, archived_at) "
+            + "select id, title, description, status, priority, due_date, created_at, updated_at, assignee_id, "
+            + "version, change_seq, :now from tasks where id in (:ids)", nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * Copy archived tasks back to the hot table.
+     * 
+     * @param ids Task IDs
+     * @return Number of copied tasks
+     */
+    @Modifying
+    @Query(value = "insert into tasks (id, title, description, status, priority, due_date, created_at, "
+            + "updated_at, assignee_id, version, change_seq) "
+            + "select id, title, description, status, priority, due_date, created_at, updated_at, assignee_id, "
+            + "version, change_seq from tasks_archive where id in (:ids)", nativeQuery = true)
+    int copyToTasks(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Remove tasks copied back to the hot table from the archive.
+     * 
+     * @param ids Task IDs
+     * @return Number of removed rows
+     */
+    @Modifying
+    @Query(value = "delete from tasks_archive where id in (:ids)", nativeQuery = true)
+    int deleteRestoredByIds(@Param("ids") Collection<UUID> ids);
+}
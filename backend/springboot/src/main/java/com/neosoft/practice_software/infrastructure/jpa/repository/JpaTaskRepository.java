@@ -1,18 +1,71 @@
 package com.neosoft.practice_software.infrastructure.jpa.repository;
 
+import com.neosoft.practice_software.domain.model.TaskStatus;
 import com.neosoft.practice_software.infrastructure.jpa.entity.TaskEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA Repository for TaskEntity.
  */
 @Repository
-public interface JpaTaskRepository extends JpaRepository<TaskEntity, UUID> {
+public interface JpaTaskRepository extends JpaRepository<TaskEntity, UUID>, JpaTaskRepositoryCustom {
+    
+    /**
+     * Find all tasks with their assignee fetched in the same query.
+     * 
+     * @return List of all tasks
+     */
+    @EntityGraph(attributePaths = "assignee")
+    @Query("select t from TaskEntity t")
+    List<TaskEntity> findAllWithAssignee();
+    
+    /**
+     * Stream all tasks, reading them from the database by chunks.
+     * Must be consumed inside a transaction and closed after use.
+     * 
+     * @return Stream of all tasks
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select t from TaskEntity t")
+    Stream<TaskEntity> streamAll();
+    
+    /**
+     * Find a task by ID with its assignee fetched in the same query.
+     * 
+     * @param id Task ID
+     * @return Optional containing the task if found
+     */
+    @EntityGraph(attributePaths = "assignee")
+    Optional<TaskEntity> findWithAssigneeById(UUID id);
+    
+    /**
+     * Find tasks by ID with their assignee fetched in the same query.
+     * 
+     * @param ids Task IDs
+     * @return The tasks found
+     */
+    @EntityGraph(attributePaths = "assignee")
+    List<TaskEntity> findWithAssigneeByIdIn(Collection<UUID> ids);
     
     /**
      * Find tasks by status.
@@ -20,7 +73,16 @@ public interface JpaTaskRepository extends JpaRepository<TaskEntity, UUID> {
      * @param status Task status
      * @return List of tasks with the given status
      */
-    List<TaskEntity> findByStatus(String status);
+    List<TaskEntity> findByStatus(TaskStatus status);
+    
+    /**
+     * Find tasks by status with their assignee fetched in the same query.
+     * 
+     * @param status Task status
+     * @return List of tasks with the given status
+     */
+    @EntityGraph(attributePaths = "assignee")
+    List<TaskEntity> findWithAssigneeByStatus(TaskStatus status);
     
     /**
      * Find tasks by assignee ID.
@@ -30,6 +92,15 @@ public interface JpaTaskRepository extends JpaRepository<TaskEntity, UUID> {
      */
     List<TaskEntity> findByAssigneeId(UUID assigneeId);
     
+    /**
+     * Find tasks by assignee ID with their assignee fetched in the same query.
+     * 
+     * @param assigneeId Assignee ID
+     * @return List of tasks assigned to the given user
+     */
+    @EntityGraph(attributePaths = "assignee")
+    List<TaskEntity> findWithAssigneeByAssigneeId(UUID assigneeId);
+    
     /**
      * Find a task by title and assignee ID.
      * 
@@ -47,4 +118,151 @@ public interface JpaTaskRepository extends JpaRepository<TaskEntity, UUID> {
      * @return true if the task exists
      */
     boolean existsByTitleAndAssigneeId(String title, UUID assigneeId);
+    
+    /**
+     * Find the (assignee, title) pairs already used among the given assignees and titles.
+     * 
+     * @param assigneeIds Assignee IDs
+     * @param titles Task titles
+     * @return Existing pairs
+     */
+    @Query("select t.assigneeId as assigneeId, t.title as title from TaskEntity t "
+            + "where t.assigneeId in :assigneeIds and t.title in :titles")
+    List<AssigneeTitleView> findAssigneeTitles(@Param("assigneeIds") Collection<UUID> assigneeIds,
+                                               @Param("titles") Collection<String> titles);
+    
+    /**
+     * Move every task from one status to another in a single statement.
+     * 
+     * @param from Current status
+     * @param to New status
+     * @param now Update date
+     * @param changeSeq Change sequence number of the update
+     * @return Number of updated tasks
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskEntity t set t.status = :to, t.updatedAt = :now, t.version = t.version + 1, "
+            + "t.changeSeq = :changeSeq where t.status = :from and t.deletedAt is null and t.archived = false")
+    int updateStatus(@Param("from") TaskStatus from, @Param("to") TaskStatus to, @Param("now") LocalDateTime now,
+                     @Param("changeSeq") long changeSeq);
+    
+    /**
+     * Move the tasks of an assignee from one status to another in a single statement.
+     * 
+     * @param from Current status
+     * @param to New status
+     * @param assigneeId Assignee ID
+     * @param now Update date
+     * @param changeSeq Change sequence number of the update
+     * @return Number of updated tasks
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskEntity t set t.status = :to, t.updatedAt = :now, t.version = t.version + 1, "
+            + "t.changeSeq = :changeSeq where t.status = :from and t.assigneeId = :assigneeId and t.deletedAt is null "
+            + "and t.archived = false")
+    int updateStatusByAssigneeId(@Param("from") TaskStatus from, @Param("to") TaskStatus to,
+                                 @Param("assigneeId") UUID assigneeId, @Param("now") LocalDateTime now,
+                                 @Param("changeSeq") long changeSeq);
+    
+    /**
+     * Set the status of the given tasks in a single statement.
+     * 
+     * @param ids Task IDs
+     * @param to New status
+     * @param now Update date
+     * @param changeSeq Change sequence number of the update
+     * @return Number of updated tasks
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskEntity t set t.status = :to, t.updatedAt = :now, t.version = t.version + 1, "
+            + "t.changeSeq = :changeSeq where t.id in :ids and t.deletedAt is null and t.archived = false")
+    int updateStatusByIds(@Param("ids") Collection<UUID> ids, @Param("to") TaskStatus to,
+                          @Param("now") LocalDateTime now, @Param("changeSeq") long changeSeq);
+    
+    /**
+     * Mark a task as deleted in a single statement, the row is removed later by {@link #purgeByIds}.
+     * 
+     * @param id Task ID
+     * @param now Deletion date
+     * @param changeSeq Change sequence number of the deletion
+     * @return Number of deleted tasks
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TaskEntity t set t.deletedAt = :now, t.changeSeq = :changeSeq, t.version = t.version + 1 "
+            + "where t.id = :id and t.deletedAt is null and t.archived = false")
+    int softDeleteById(@Param("id") UUID id, @Param("now") LocalDateTime now, @Param("changeSeq") long changeSeq);
+    
+    /**
+     * Remove deleted tasks from the table.
+     * 
+     * @param ids Task IDs, tasks that are not deleted are kept
+     * @return Number of removed rows
+     */
+    @Modifying
+    @Query(value = "delete from tasks where id in (:ids) and deleted_at is not null", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Remove tasks copied to the archive from the table.
+     * 
+     * @param ids Task IDs
+     * @return Number of removed rows
+     */
+    @Modifying
+    @Query(value = "delete from tasks where id in (:ids)", nativeQuery = true)
+    int deleteArchivedByIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Move tasks to the archive partition of a partitioned table.
+     * 
+     * @param ids Task IDs
+     * @param now Archiving date
+     * @return Number of archived tasks
+     */
+    @Modifying
+    @Query(value = "update tasks set archived = true, archived_at = :now where id in (:ids) and archived = false",
+            nativeQuery = true)
+    int markArchived(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * Move archived tasks back to the hot partition of a partitioned table.
+     * 
+     * @param ids Task IDs
+     * @return Number of restored tasks
+     */
+    @Modifying
+    @Query(value = "update tasks set archived = false, archived_at = null where id in (:ids) and archived = true",
+            nativeQuery = true)
+    int markRestored(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Find the tasks written after a position of the change sequence, in sequence order.
+     * 
+     * @param changeSeq Change sequence number of the position
+     * @param id Task ID of the position
+     * @param upTo Greatest change sequence number to return
+     * @param limit Maximum number of tasks
+     * @return The tasks, without assignee
+     */
+    @Query("select t from TaskEntity t where t.changeSeq >= :changeSeq "
+            + "and (t.changeSeq > :changeSeq or t.id > :id) and t.changeSeq <= :upTo "
+            + "order by t.changeSeq, t.id")
+    List<TaskEntity> findChangedAfter(@Param("changeSeq") long changeSeq, @Param("id") UUID id,
+                                      @Param("upTo") long upTo, Limit limit);
+    
+    /**
+     * Find the greatest change sequence number of the tasks.
+     * 
+     * @return The number, 0 without tasks
+     */
+    @Query("select coalesce(max(t.changeSeq), 0) from TaskEntity t")
+    long findMaxChangeSeq();
+    
+    /**
+     * Count the tasks and find their latest update date.
+     * 
+     * @return The aggregate
+     */
+    @Query("select count(t) as count, max(t.updatedAt) as lastUpdatedAt from TaskEntity t")
+    DataVersionView findDataVersion();
 } 
\ No newline at end of file
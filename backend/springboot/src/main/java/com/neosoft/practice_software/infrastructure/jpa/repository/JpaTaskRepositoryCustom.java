@@ -0,0 +1,61 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskEntity;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom queries of {@link JpaTaskRepository} that cannot be derived from method names.
+ */
+public interface JpaTaskRepositoryCustom {
+    
+    /**
+     * Find a page of tasks ordered by a timestamp property then by ID, starting after the given keyset position.
+     * 
+     * @param sortProperty Timestamp property to sort on
+     * @param ascending Sort direction
+     * @param afterValue Sort value of the last task of the previous page (null for the first page)
+     * @param afterId ID of the last task of the previous page (null for the first page)
+     * @param limit Maximum number of tasks to return
+     * @param withAssignee Whether to fetch the assignee in the same query
+     * @return Tasks following the given position
+     */
+    List<TaskEntity> findPage(String sortProperty, boolean ascending, LocalDateTime afterValue, UUID afterId, int limit,
+                              boolean withAssignee);
+    
+    /**
+     * Find the columns needed to estimate the tasks matching all the given criteria.
+     * 
+     * @param ids Task IDs (null for any)
+     * @param assigneeId Assignee ID (null for any)
+     * @param status Task status (null for any)
+     * @param limit Maximum number of tasks
+     * @return The estimation columns of the matching tasks
+     */
+    List<TaskEstimationView> findEstimationViews(Collection<UUID> ids, UUID assigneeId, TaskStatus status, int limit);
+    
+    /**
+     * Find the tasks deleted before a date, oldest first.
+     * 
+     * @param before Deletion date limit
+     * @param limit Maximum number of IDs
+     * @return The task IDs
+     */
+    List<UUID> findIdsDeletedBefore(LocalDateTime before, int limit);
+    
+    /**
+     * Find the DONE tasks last updated before a date, following a position in (updated_at, id) order, and lock
+     * them until the end of the transaction.
+     * 
+     * @param before Update date limit
+     * @param afterUpdatedAt Update date of the position
+     * @param afterId Task ID of the position
+     * @param limit Maximum number of IDs
+     * @return The task IDs, in (updated_at, id) order
+     */
+    List<UUID> findIdsToArchive(LocalDateTime before, LocalDateTime afterUpdatedAt, UUID afterId, int limit);
+}
@@ -0,0 +1,120 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Criteria and native query based implementation of {@link JpaTaskRepositoryCustom}.
+ */
+public class JpaTaskRepositoryCustomImpl implements JpaTaskRepositoryCustom {
+    
+    private static final String IDS_DELETED_BEFORE = "select id from tasks where deleted_at < :before "
+            + "order by deleted_at limit :limit";
+    
+    private static final String IDS_TO_ARCHIVE = "select id from tasks where status = 3 and deleted_at is null "
+            + "and archived = false and updated_at < :before and updated_at >= :afterUpdatedAt "
+            + "and (updated_at > :afterUpdatedAt or id > :afterId) "
+            + "order by updated_at, id limit :limit for update";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<TaskEntity> findPage(String sortProperty, boolean ascending, LocalDateTime afterValue, UUID afterId, int limit,
+                                     boolean withAssignee) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskEntity> query = cb.createQuery(TaskEntity.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+        if (withAssignee) {
+            task.fetch("assignee", JoinType.LEFT);
+        }
+        Path<LocalDateTime> key = task.get(sortProperty);
+        Path<UUID> id = task.get("id");
+        
+        if (afterValue != null && afterId != null) {
+            // Reason: (key, id) > (value, afterId) is written with a leading range on the key
+            // so that the (key, id) index can seek to the position instead of scanning
+            if (ascending) {
+                query.where(cb.and(
+                    cb.greaterThanOrEqualTo(key, afterValue),
+                    cb.or(cb.greaterThan(key, afterValue), cb.greaterThan(id, afterId))));
+            } else {
+                query.where(cb.and(
+                    cb.lessThanOrEqualTo(key, afterValue),
+                    cb.or(cb.lessThan(key, afterValue), cb.lessThan(id, afterId))));
+            }
+        }
+        
+        query.orderBy(ascending
+            ? List.of(cb.asc(key), cb.asc(id))
+            : List.of(cb.desc(key), cb.desc(id)));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    @Override
+    public List<TaskEstimationView> findEstimationViews(Collection<UUID> ids, UUID assigneeId, TaskStatus status,
+                                                        int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskEstimationView> query = cb.createQuery(TaskEstimationView.class);
+        Root<TaskEntity> task = query.from(TaskEntity.class);
+        // Only the columns of the estimate: no title, no assignee join and no managed entities
+        query.select(cb.construct(TaskEstimationView.class,
+            task.get("id"), task.get("status"), task.get("priority"), task.get("description"),
+            task.get("updatedAt")));
+        
+        List<Predicate> predicates = new ArrayList<>();
+        if (ids != null) {
+            predicates.add(task.get("id").in(ids));
+        }
+        if (assigneeId != null) {
+            predicates.add(cb.equal(task.get("assigneeId"), assigneeId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    @Override
+    public List<UUID> findIdsDeletedBefore(LocalDateTime before, int limit) {
+        // Native, as the entity restriction hides the deleted tasks from JPQL,
+        // with a typed result so that the IDs are read as UUID whatever the database column type
+        return entityManager.unwrap(Session.class).createNativeQuery(IDS_DELETED_BEFORE, UUID.class)
+                .setParameter("before", before)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+    
+    @Override
+    public List<UUID> findIdsToArchive(LocalDateTime before, LocalDateTime afterUpdatedAt, UUID afterId, int limit) {
+        // Native, to lock the rows with FOR UPDATE
+        return entityManager.unwrap(Session.class).createNativeQuery(IDS_TO_ARCHIVE, UUID.class)
+                .setParameter("before", before)
+                .setParameter("afterUpdatedAt", afterUpdatedAt)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,64 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import com.neosoft.practice_software.infrastructure.jpa.entity.TaskTombstoneEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA Repository for TaskTombstoneEntity.
+ */
+@Repository
+public interface JpaTaskTombstoneRepository extends JpaRepository<TaskTombstoneEntity, UUID> {
+    
+    /**
+     * Find the deletions following a position of the change sequence, in sequence order.
+     * 
+     * @param changeSeq Change sequence number of the position
+     * @param taskId Task ID of the position
+     * @param upTo Greatest change sequence number to return
+     * @param limit Maximum number of deletions
+     * @return The deletions
+     */
+    @Query("select t from TaskTombstoneEntity t where t.changeSeq >= :changeSeq "
+            + "and (t.changeSeq > :changeSeq or t.taskId > :taskId) and t.changeSeq <= :upTo "
+            + "order by t.changeSeq, t.taskId")
+    List<TaskTombstoneEntity> findDeletedAfter(@Param("changeSeq") long changeSeq, @Param("taskId") UUID taskId,
+                                               @Param("upTo") long upTo, Limit limit);
+    
+    /**
+     * Find the greatest change sequence number of the deletions.
+     * 
+     * @return The number, 0 without deletions
+     */
+    @Query("select coalesce(max(t.changeSeq), 0) from TaskTombstoneEntity t")
+    long findMaxChangeSeq();
+    
+    /**
+     * Find the tombstones of the tasks deleted before a date, oldest first.
+     * 
+     * @param before Deletion date limit
+     * @param limit Maximum number of IDs
+     * @return The task IDs
+     */
+    @Query("select t.taskId from TaskTombstoneEntity t where t.deletedAt < :before order by t.deletedAt")
+    List<UUID> findIdsDeletedBefore(@Param("before") LocalDateTime before, Limit limit);
+    
+    /**
+     * Remove tombstones from the table.
+     * 
+     * @param ids Task IDs
+     * @return Number of removed tombstones
+     */
+    @Modifying
+    @Query("delete from TaskTombstoneEntity t where t.taskId in :ids")
+    int deleteByTaskIds(@Param("ids") Collection<UUID> ids);
+}
@@ -2,8 +2,12 @@ package com.neosoft.practice_software.infrastructure.jpa.repository;
 
 import com.neosoft.practice_software.infrastructure.jpa.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,4 +32,21 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
      * @return true if the user exists
      */
     boolean existsByUsername(String username);
+    
+    /**
+     * Find which of the given user IDs exist.
+     * 
+     * @param ids User IDs
+     * @return IDs of the existing users
+     */
+    @Query("select u.id from UserEntity u where u.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Count the users and find their latest update date.
+     * 
+     * @return The aggregate
+     */
+    @Query("select count(u) as count, max(coalesce(u.updatedAt, u.createdAt)) as lastUpdatedAt from UserEntity u")
+    DataVersionView findDataVersion();
 } 
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of the columns of a task that its time estimate depends on.
+ * 
+ * @param id          Task ID
+ * @param status      Task status
+ * @param priority    Task priority
+ * @param description Task description
+ * @param updatedAt   Last update date, identifying the estimated version of the task
+ */
+public record TaskEstimationView(UUID id, TaskStatus status, TaskPriority priority, String description,
+                                 LocalDateTime updatedAt) {
+}
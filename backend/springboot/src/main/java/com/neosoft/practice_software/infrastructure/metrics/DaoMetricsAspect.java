@@ -0,0 +1,48 @@
+package com.neosoft.practice_software.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the JPA DAOs (dao.calls, tagged by DAO, method and outcome)
+ * and attributes the SQL statements they run to the DAO.
+ */
+@Aspect
+@Component
+public class DaoMetricsAspect {
+    
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementMetrics sqlStatementMetrics;
+    
+    public DaoMetricsAspect(MeterRegistry meterRegistry, SqlStatementMetrics sqlStatementMetrics) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+    
+    @Around("execution(public * com.neosoft.practice_software.infrastructure.jpa.dao.*DAOImpl.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String dao = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String previous = sqlStatementMetrics.enterDao(dao);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("dao.calls")
+                    .description("Calls to the JPA DAOs")
+                    .tag("dao", dao)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            sqlStatementMetrics.exitDao(previous);
+        }
+    }
+}
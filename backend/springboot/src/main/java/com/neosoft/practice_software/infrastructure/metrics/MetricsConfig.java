@@ -0,0 +1,60 @@
+package com.neosoft.practice_software.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration of the application metrics, published under /actuator/prometheus.
+ * <p>
+ * HTTP timers (http.server.requests), HikariCP gauges (hikaricp.*) and Hibernate statistics (hibernate.*)
+ * come from Spring Boot; this class adds the DAO and SQL statement metrics and bounds their tags.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    
+    /**
+     * Upper bound of the distinct method tags, far above the number of DAO methods.
+     */
+    static final int MAX_METHOD_TAGS = 100;
+    
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementMetrics sqlStatementMetrics;
+    
+    public MetricsConfig(MeterRegistry meterRegistry, SqlStatementMetrics sqlStatementMetrics) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+    
+    /**
+     * Register the statement counter as the Hibernate statement inspector.
+     * 
+     * @return The customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementMetrics);
+    }
+    
+    /**
+     * Stop registering new dao.calls timers if the method tag ever goes beyond the expected values.
+     * Static, as meter filters are applied while the MeterRegistry this class depends on is created.
+     * 
+     * @return The meter filter
+     */
+    @Bean
+    public static MeterFilter daoCallsCardinalityFilter() {
+        return MeterFilter.maximumAllowableTags("dao.calls", "method", MAX_METHOD_TAGS, MeterFilter.deny());
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestStatementsInterceptor(meterRegistry, sqlStatementMetrics))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,58 @@
+package com.neosoft.practice_software.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of SQL statements run by each HTTP request (http.server.requests.statements),
+ * tagged like http.server.requests by method and URI template, never by raw URI.
+ * <p>
+ * Statements run on another thread, such as the streamed export, are not attributed to the request.
+ */
+public class RequestStatementsInterceptor implements AsyncHandlerInterceptor {
+    
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementMetrics sqlStatementMetrics;
+    
+    public RequestStatementsInterceptor(MeterRegistry meterRegistry, SqlStatementMetrics sqlStatementMetrics) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        sqlStatementMetrics.startRequest();
+        return true;
+    }
+    
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        record(request);
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        record(request);
+    }
+    
+    private void record(HttpServletRequest request) {
+        int statements = sqlStatementMetrics.endRequest();
+        if (statements < 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements run per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
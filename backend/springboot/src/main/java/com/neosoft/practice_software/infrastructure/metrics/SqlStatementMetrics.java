@@ -0,0 +1,105 @@
+package com.neosoft.practice_software.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the SQL statements prepared by Hibernate, per DAO and statement type (dao.statements),
+ * and per HTTP request (see {@link RequestStatementsInterceptor}).
+ * <p>
+ * The current DAO and request are tracked per thread by {@link DaoMetricsAspect} and the interceptor.
+ * Tags only take a fixed set of values: the DAO class name, or "none" outside of a DAO, and select, insert,
+ * update, delete or other.
+ */
+@Component
+public class SqlStatementMetrics implements StatementInspector {
+    
+    static final String NO_DAO = "none";
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ThreadLocal<String> currentDao = new ThreadLocal<>();
+    private final ThreadLocal<int[]> requestStatements = new ThreadLocal<>();
+    
+    public SqlStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        String dao = currentDao.get();
+        String type = typeOf(sql);
+        counters.computeIfAbsent((dao == null ? NO_DAO : dao) + "|" + type, key -> Counter.builder("dao.statements")
+                        .description("SQL statements prepared by Hibernate")
+                        .tag("dao", dao == null ? NO_DAO : dao)
+                        .tag("type", type)
+                        .register(meterRegistry))
+                .increment();
+        
+        int[] count = requestStatements.get();
+        if (count != null) {
+            count[0]++;
+        }
+        // The statement is left unchanged
+        return sql;
+    }
+    
+    /**
+     * Attribute the statements of the current thread to a DAO.
+     * 
+     * @param dao Simple name of the DAO class
+     * @return The previous DAO, to pass to {@link #exitDao(String)}
+     */
+    String enterDao(String dao) {
+        String previous = currentDao.get();
+        currentDao.set(dao);
+        return previous;
+    }
+    
+    void exitDao(String previous) {
+        if (previous == null) {
+            currentDao.remove();
+        } else {
+            currentDao.set(previous);
+        }
+    }
+    
+    /**
+     * Start counting the statements of the current thread for an HTTP request.
+     */
+    void startRequest() {
+        requestStatements.set(new int[1]);
+    }
+    
+    /**
+     * Stop counting the statements of the current request.
+     * 
+     * @return The number of statements since {@link #startRequest()}, or -1 if no request was started
+     */
+    int endRequest() {
+        int[] count = requestStatements.get();
+        requestStatements.remove();
+        return count == null ? -1 : count[0];
+    }
+    
+    private static String typeOf(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            // Common table expressions are only used for reads here
+            case "with" -> "select";
+            default -> "other";
+        };
+    }
+}
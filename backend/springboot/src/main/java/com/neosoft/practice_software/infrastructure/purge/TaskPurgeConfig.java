@@ -0,0 +1,14 @@
+package com.neosoft.practice_software.infrastructure.purge;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@link TaskPurgeJob} on a schedule. Disabled with app.tasks.purge.enabled=false.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.tasks.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskPurgeConfig {
+}
@@ -0,0 +1,77 @@
+package com.neosoft.practice_software.infrastructure.purge;
+
+import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.infrastructure.batch.BatchRunner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Removes the soft-deleted tasks once their retention is over, and the tombstones of the change feed once
+ * synchronizing clients no longer need them. Rows are removed through the {@link BatchRunner}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.purge.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskPurgeJob {
+    
+    private final TaskDAO taskDAO;
+    private final BatchRunner batchRunner;
+    private final Duration retention;
+    private final Duration changesRetention;
+    private final Counter purged;
+    private final Counter tombstonesPurged;
+    
+    public TaskPurgeJob(TaskDAO taskDAO,
+                        BatchRunner batchRunner,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.tasks.purge.retention:7d}") Duration retention,
+                        @Value("${app.tasks.changes.retention:30d}") Duration changesRetention) {
+        this.taskDAO = taskDAO;
+        this.batchRunner = batchRunner;
+        this.retention = retention;
+        this.changesRetention = changesRetention;
+        this.purged = Counter.builder("tasks.purged")
+                .description("Soft-deleted tasks removed from the database")
+                .register(meterRegistry);
+        this.tombstonesPurged = Counter.builder("tasks.tombstones.purged")
+                .description("Tombstones of deleted tasks removed from the database")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Purge the tasks deleted for longer than the retention, then the tombstones older than the change feed
+     * retention.
+     */
+    @Scheduled(initialDelayString = "${app.tasks.purge.interval:1h}", fixedDelayString = "${app.tasks.purge.interval:1h}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        purge(now.minus(retention));
+        purgeTombstones(now.minus(changesRetention));
+    }
+    
+    /**
+     * Purge the tasks deleted before a date.
+     * 
+     * @param before Deletion date limit
+     * @return Number of removed tasks
+     */
+    public int purge(LocalDateTime before) {
+        return batchRunner.run(limit -> taskDAO.purgeDeleted(before, limit), purged);
+    }
+    
+    /**
+     * Purge the tombstones of the tasks deleted before a date.
+     * 
+     * @param before Deletion date limit
+     * @return Number of removed tombstones
+     */
+    public int purgeTombstones(LocalDateTime before) {
+        return batchRunner.run(limit -> taskDAO.purgeTombstones(before, limit), tombstonesPurged);
+    }
+}
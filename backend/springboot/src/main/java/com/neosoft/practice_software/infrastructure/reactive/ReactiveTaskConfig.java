@@ -0,0 +1,72 @@
+package com.neosoft.practice_software.infrastructure.reactive;
+
+import com.neosoft.practice_software.infrastructure.api.mapper.TaskDTOMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.time.Duration;
+
+/**
+ * Reactive read path, enabled by the reactive profile: GET /api/v1/tasks and GET /api/v1/tasks/{id}
+ * served by WebFlux functional routes over R2DBC.
+ * <p>
+ * The connection pool is deliberately not exposed as a ConnectionFactory bean, which would make Spring Boot
+ * drop the JDBC DataSource that Liquibase and JPA still use.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveTaskConfig {
+    
+    /**
+     * Repository over its own R2DBC connection pool, closed with the context.
+     * 
+     * @param url         R2DBC URL of the database
+     * @param username    Database user
+     * @param password    Database password
+     * @param initialSize Connections opened at startup
+     * @param maxSize     Maximum number of connections
+     * @param maxIdleTime Idle time after which a connection is closed
+     * @return The repository
+     */
+    @Bean(destroyMethod = "close")
+    public ReactiveTaskRepository reactiveTaskRepository(@Value("${app.reactive.r2dbc.url}") String url,
+                                                         @Value("${app.reactive.r2dbc.username}") String username,
+                                                         @Value("${app.reactive.r2dbc.password}") String password,
+                                                         @Value("${app.reactive.r2dbc.pool.initial-size:5}") int initialSize,
+                                                         @Value("${app.reactive.r2dbc.pool.max-size:20}") int maxSize,
+                                                         @Value("${app.reactive.r2dbc.pool.max-idle-time:30m}") Duration maxIdleTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .build());
+        return new ReactiveTaskRepository(pool);
+    }
+    
+    @Bean
+    public ReactiveTaskHandler reactiveTaskHandler(ReactiveTaskRepository reactiveTaskRepository,
+                                                   TaskDTOMapper taskDTOMapper) {
+        return new ReactiveTaskHandler(reactiveTaskRepository, taskDTOMapper);
+    }
+    
+    @Bean
+    public RouterFunction<ServerResponse> reactiveTaskRoutes(ReactiveTaskHandler handler) {
+        return RouterFunctions.route()
+                .GET("/api/v1/tasks", handler::getAllTasks)
+                .GET("/api/v1/tasks/{id}", handler::getTaskById)
+                .build();
+    }
+}
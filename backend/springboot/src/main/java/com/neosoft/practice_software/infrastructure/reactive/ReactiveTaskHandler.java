@@ -0,0 +1,80 @@
+package com.neosoft.practice_software.infrastructure.reactive;
+
+import com.neosoft.practice_software.infrastructure.api.dto.ErrorResponse;
+import com.neosoft.practice_software.infrastructure.api.dto.TaskDTO;
+import com.neosoft.practice_software.infrastructure.api.mapper.TaskDTOMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive counterpart of the TaskController read endpoints, with the same paths and payloads.
+ */
+public class ReactiveTaskHandler {
+    
+    private static final String INCLUDE_ASSIGNEE = "assignee";
+    private static final String INCLUDE_NONE = "none";
+    
+    private final ReactiveTaskRepository repository;
+    private final TaskDTOMapper taskDTOMapper;
+    
+    public ReactiveTaskHandler(ReactiveTaskRepository repository, TaskDTOMapper taskDTOMapper) {
+        this.repository = repository;
+        this.taskDTOMapper = taskDTOMapper;
+    }
+    
+    /**
+     * Stream all tasks, as a JSON array or, when accepted, as NDJSON flushed task by task.
+     * 
+     * @param request The request
+     * @return The response
+     */
+    public Mono<ServerResponse> getAllTasks(ServerRequest request) {
+        String include = request.queryParam("include").orElse(INCLUDE_ASSIGNEE);
+        if (!INCLUDE_ASSIGNEE.equals(include) && !INCLUDE_NONE.equals(include)) {
+            return badRequest(request, "Invalid include: " + include);
+        }
+        
+        Flux<TaskDTO> tasks = repository.findAll(INCLUDE_ASSIGNEE.equals(include)).map(taskDTOMapper::toDTO);
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(tasks, TaskDTO.class);
+    }
+    
+    /**
+     * Get a task with its assignee.
+     * 
+     * @param request The request
+     * @return The response, 404 if the task does not exist
+     */
+    public Mono<ServerResponse> getTaskById(ServerRequest request) {
+        UUID id;
+        try {
+            id = UUID.fromString(request.pathVariable("id"));
+        } catch (IllegalArgumentException e) {
+            return badRequest(request, "Invalid task ID: " + request.pathVariable("id"));
+        }
+        
+        return repository.findById(id)
+                .map(taskDTOMapper::toDTO)
+                .flatMap(task -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(task))
+                .switchIfEmpty(ServerResponse.notFound().build());
+    }
+    
+    private static Mono<ServerResponse> badRequest(ServerRequest request, String message) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            UUID.randomUUID(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            message,
+            "uri=" + request.path()
+        );
+        return ServerResponse.badRequest().contentType(MediaType.APPLICATION_JSON).bodyValue(errorResponse);
+    }
+}
@@ -0,0 +1,94 @@
+package com.neosoft.practice_software.infrastructure.reactive;
+
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.domain.model.User;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads of the tasks table through R2DBC.
+ * Rows are mapped as they arrive, so a slow subscriber slows down the fetch instead of buffering the table.
+ */
+public class ReactiveTaskRepository implements AutoCloseable {
+    
+    private static final String TASK_COLUMNS = "t.id, t.title, t.description, t.status, t.priority, t.due_date, "
+            + "t.created_at, t.updated_at, t.assignee_id, t.version";
+    
+    private static final String SELECT_WITH_ASSIGNEE = "select " + TASK_COLUMNS + ", u.username as u_username, "
+            + "u.email as u_email, u.role as u_role, u.created_at as u_created_at, u.updated_at as u_updated_at, "
+            + "u.version as u_version from tasks t left join users u on u.id = t.assignee_id "
+            + "where t.deleted_at is null and t.archived = false";
+    
+    private static final String SELECT_WITHOUT_ASSIGNEE = "select " + TASK_COLUMNS
+            + " from tasks t where t.deleted_at is null and t.archived = false";
+    
+    /**
+     * Rows requested from the driver at a time.
+     */
+    private static final int PREFETCH = 256;
+    
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    
+    public ReactiveTaskRepository(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+    
+    /**
+     * Stream all tasks, ordered by ID.
+     * 
+     * @param withAssignee true to join the assignee
+     * @return The tasks
+     */
+    public Flux<Task> findAll(boolean withAssignee) {
+        String sql = (withAssignee ? SELECT_WITH_ASSIGNEE : SELECT_WITHOUT_ASSIGNEE) + " order by t.id";
+        return databaseClient.sql(sql)
+                .map(row -> toTask(row, withAssignee))
+                .all()
+                .limitRate(PREFETCH);
+    }
+    
+    /**
+     * Find a task with its assignee.
+     * 
+     * @param id ID of the task
+     * @return The task, or empty if not found
+     */
+    public Mono<Task> findById(UUID id) {
+        return databaseClient.sql(SELECT_WITH_ASSIGNEE + " and t.id = :id")
+                .bind("id", id)
+                .map(row -> toTask(row, true))
+                .one();
+    }
+    
+    @Override
+    public void close() {
+        connectionPool.dispose();
+    }
+    
+    private static Task toTask(Readable row, boolean withAssignee) {
+        Short priority = row.get("priority", Short.class);
+        UUID assigneeId = row.get("assignee_id", UUID.class);
+        User assignee = null;
+        if (withAssignee && assigneeId != null) {
+            assignee = new User(assigneeId, row.get("u_username", String.class), row.get("u_email", String.class),
+                    row.get("u_role", String.class), row.get("u_created_at", LocalDateTime.class),
+                    row.get("u_updated_at", LocalDateTime.class), row.get("u_version", Long.class));
+        }
+        return new Task(row.get("id", UUID.class), row.get("title", String.class),
+                row.get("description", String.class), TaskStatus.fromCode(row.get("status", Short.class)),
+                priority == null ? null : TaskPriority.fromCode(priority), row.get("due_date", LocalDate.class),
+                row.get("created_at", LocalDateTime.class), row.get("updated_at", LocalDateTime.class),
+                assigneeId, assignee, row.get("version", Long.class));
+    }
+}
@@ -0,0 +1,384 @@
+package com.neosoft.practice_software.infrastructure.search;
+
+import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.application.dao.TaskSearchIndex;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChangeEvent;
+import com.neosoft.practice_software.domain.model.TaskSearchHit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index of the task titles and descriptions, ranked with BM25.
+ * <p>
+ * Each indexed version of a task is a document with a number. Postings are kept per word in primitive arrays,
+ * sorted by document number, so that the words of a query are intersected by binary searches. A changed task
+ * gets a new document and its previous one is marked dead; postings are compacted once dead documents
+ * outnumber live ones.
+ * <p>
+ * The index is rebuilt from a streaming scan of the tasks at startup, then maintained from the committed task
+ * changes. Both run in order on a single indexing thread, so a change committed during the scan is applied
+ * after it. Until the scan completes, searches only see part of the tasks.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTaskSearchIndex implements TaskSearchIndex, DisposableBean {
+    
+    /**
+     * A word of the title counts as this many words of the description.
+     */
+    static final int TITLE_WEIGHT = 3;
+    
+    /**
+     * BM25 saturation of repeated words.
+     */
+    private static final float K1 = 1.2f;
+    
+    /**
+     * BM25 normalization by document length.
+     */
+    private static final float B = 0.75f;
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    /**
+     * Dead documents below which compaction is not worth it.
+     */
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+    
+    private final TaskDAO taskDAO;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("task-search-indexer").factory());
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // The fields below are guarded by lock
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> documents = new HashMap<>();
+    
+    /**
+     * Task of each document, null for dead documents.
+     */
+    private UUID[] taskIds = new UUID[INITIAL_CAPACITY];
+    
+    /**
+     * Weighted number of words of each document.
+     */
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    
+    private int documentCount;
+    private int deadCount;
+    
+    /**
+     * Sum of the lengths of the live documents.
+     */
+    private long totalLength;
+    
+    public InMemoryTaskSearchIndex(TaskDAO taskDAO, PlatformTransactionManager transactionManager) {
+        this.taskDAO = taskDAO;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @Override
+    public List<TaskSearchHit> search(String query, int limit) {
+        Set<String> words = new LinkedHashSet<>();
+        SearchTokenizer.tokenize(query, words::add);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            int liveCount = documentCount - deadCount;
+            List<Postings> wordPostings = new ArrayList<>(words.size());
+            for (String word : words) {
+                Postings wordPosting = postings.get(word);
+                if (wordPosting == null || liveCount == 0) {
+                    return List.of();
+                }
+                wordPostings.add(wordPosting);
+            }
+            // The rarest word drives the intersection, the others are looked up in its documents
+            wordPostings.sort(Comparator.comparingInt(Postings::size));
+            
+            float[] idfs = new float[wordPostings.size()];
+            for (int w = 0; w < idfs.length; w++) {
+                // Dead documents are still counted until compaction, which slightly lowers the weight of the word
+                int frequency = Math.min(wordPostings.get(w).size(), liveCount);
+                idfs[w] = (float) Math.log(1 + (liveCount - frequency + 0.5) / (frequency + 0.5));
+            }
+            float averageLength = Math.max(1f, (float) totalLength / liveCount);
+            
+            PriorityQueue<TaskSearchHit> best = new PriorityQueue<>(Comparator.comparingDouble(TaskSearchHit::score));
+            Postings rarest = wordPostings.get(0);
+            int[] positions = new int[wordPostings.size()];
+            for (int i = 0; i < rarest.size(); i++) {
+                int document = rarest.documents[i];
+                if (taskIds[document] == null) {
+                    continue;
+                }
+                
+                float norm = K1 * (1 - B + B * lengths[document] / averageLength);
+                float score = 0;
+                boolean matchesAll = true;
+                for (int w = 0; w < positions.length; w++) {
+                    Postings wordPosting = wordPostings.get(w);
+                    int position = w == 0 ? i : wordPosting.find(document, positions[w]);
+                    if (position < 0) {
+                        // Documents are increasing: later lookups start from the insertion point
+                        positions[w] = -position - 1;
+                        matchesAll = false;
+                        break;
+                    }
+                    positions[w] = position;
+                    int frequency = wordPosting.frequencies[position];
+                    score += idfs[w] * frequency * (K1 + 1) / (frequency + norm);
+                }
+                
+                if (matchesAll && (best.size() < limit || score > best.peek().score())) {
+                    if (best.size() == limit) {
+                        best.poll();
+                    }
+                    best.add(new TaskSearchHit(taskIds[document], score));
+                }
+            }
+            
+            List<TaskSearchHit> hits = new ArrayList<>(best);
+            hits.sort(Comparator.comparingDouble(TaskSearchHit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Rebuild the index from all the tasks once the application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        indexer.execute(() -> {
+            clear();
+            readOnlyTransaction.executeWithoutResult(
+                    status -> taskDAO.streamAll(task -> index(task.getId(), task.getTitle(), task.getDescription())));
+        });
+    }
+    
+    /**
+     * Apply a committed change to the index, in the background.
+     * 
+     * @param event The change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChange(TaskChangeEvent event) {
+        switch (event.type()) {
+            case CREATED, RESTORED -> {
+                UUID id = event.task().getId();
+                String title = event.task().getTitle();
+                String description = event.task().getDescription();
+                indexer.execute(() -> index(id, title, description));
+            }
+            case UPDATED -> {
+                // The event only carries the changed fields, the other indexed one is read back
+                if (event.changes().containsKey("title") || event.changes().containsKey("description")) {
+                    UUID id = event.taskIds().get(0);
+                    indexer.execute(() -> reindex(id));
+                }
+            }
+            case DELETED, ARCHIVED -> event.taskIds().forEach(id -> indexer.execute(() -> remove(id)));
+            default -> {
+                // Status, priority and assignee are not indexed
+            }
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        indexer.shutdownNow();
+    }
+    
+    /**
+     * Index the current version of a task, replacing the previous one.
+     * 
+     * @param id          Task ID
+     * @param title       Task title
+     * @param description Task description
+     */
+    void index(UUID id, String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = TITLE_WEIGHT * SearchTokenizer.tokenize(title,
+                word -> frequencies.merge(word, TITLE_WEIGHT, Integer::sum));
+        length += SearchTokenizer.tokenize(description, word -> frequencies.merge(word, 1, Integer::sum));
+        
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            if (documentCount == taskIds.length) {
+                taskIds = Arrays.copyOf(taskIds, documentCount * 2);
+                lengths = Arrays.copyOf(lengths, documentCount * 2);
+            }
+            int document = documentCount++;
+            taskIds[document] = id;
+            lengths[document] = length;
+            totalLength += length;
+            documents.put(id, document);
+            frequencies.forEach((word, frequency) ->
+                    postings.computeIfAbsent(word, key -> new Postings()).add(document, frequency));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove a task from the index.
+     * 
+     * @param id Task ID
+     */
+    void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void reindex(UUID id) {
+        Optional<Task> task = readOnlyTransaction.execute(status -> taskDAO.findById(id));
+        if (task != null && task.isPresent()) {
+            index(id, task.get().getTitle(), task.get().getDescription());
+        } else {
+            remove(id);
+        }
+    }
+    
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            taskIds = new UUID[INITIAL_CAPACITY];
+            lengths = new int[INITIAL_CAPACITY];
+            documentCount = 0;
+            deadCount = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void removeDocument(UUID id) {
+        Integer document = documents.remove(id);
+        if (document != null) {
+            taskIds[document] = null;
+            totalLength -= lengths[document];
+            deadCount++;
+        }
+    }
+    
+    /**
+     * Renumber the live documents and drop the dead ones from the postings, keeping their order.
+     */
+    private void compactIfNeeded() {
+        if (deadCount < MIN_DEAD_TO_COMPACT || deadCount < documentCount - deadCount) {
+            return;
+        }
+        
+        int[] renumbered = new int[documentCount];
+        int live = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (taskIds[document] == null) {
+                renumbered[document] = -1;
+                continue;
+            }
+            renumbered[document] = live;
+            taskIds[live] = taskIds[document];
+            lengths[live] = lengths[document];
+            documents.put(taskIds[live], live);
+            live++;
+        }
+        Arrays.fill(taskIds, live, documentCount, null);
+        documentCount = live;
+        deadCount = 0;
+        postings.values().removeIf(wordPostings -> wordPostings.retain(renumbered) == 0);
+    }
+    
+    /**
+     * Documents containing a word, by increasing document number, with the weighted count of the word in each.
+     */
+    private static final class Postings {
+        
+        private int[] documents = new int[2];
+        private int[] frequencies = new int[2];
+        private int size;
+        
+        int size() {
+            return size;
+        }
+        
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+        
+        /**
+         * Binary search of a document.
+         * 
+         * @param document Document number
+         * @param from     Position to start from
+         * @return Position of the document, or (-(insertion point) - 1)
+         */
+        int find(int document, int from) {
+            return Arrays.binarySearch(documents, from, size, document);
+        }
+        
+        /**
+         * Keep the postings of the live documents, under their new number.
+         * 
+         * @param renumbered New number of each document, -1 for the dead ones
+         * @return Number of postings left
+         */
+        int retain(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[documents[i]];
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.neosoft.practice_software.infrastructure.search;
+
+import com.neosoft.practice_software.application.dao.TaskSearchIndex;
+import com.neosoft.practice_software.domain.model.TaskSearchHit;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text search in Postgres, over the search_vector column generated from the title (weight A)
+ * and the description (weight B) and its GIN index, ranked with ts_rank_cd.
+ * <p>
+ * The simple text search configuration is used because tasks mix languages: words are lower-cased
+ * but neither stemmed nor stripped of their accents.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "postgres")
+public class PostgresTaskSearchIndex implements TaskSearchIndex {
+    
+    private static final String SEARCH = "select t.id, ts_rank_cd(t.search_vector, q.query) as score "
+            + "from tasks t, websearch_to_tsquery('simple', :query) as q(query) "
+            + "where t.search_vector @@ q.query and t.deleted_at is null and t.archived = false "
+            + "order by score desc, t.id "
+            + "limit :limit";
+    
+    private final EntityManager entityManager;
+    
+    public PostgresTaskSearchIndex(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskSearchHit> search(String query, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH)
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new TaskSearchHit((UUID) row[0], ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+}
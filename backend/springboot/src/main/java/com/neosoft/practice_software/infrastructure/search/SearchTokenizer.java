@@ -0,0 +1,47 @@
+package com.neosoft.practice_software.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.function.Consumer;
+
+/**
+ * Splits texts into the words of the search index: runs of letters and digits, in lower case and without accents,
+ * so that "Réunion" and "reunion" match.
+ */
+final class SearchTokenizer {
+    
+    private SearchTokenizer() {
+    }
+    
+    /**
+     * Split a text into words.
+     * 
+     * @param text     Text to split, may be null
+     * @param consumer Callback receiving each word, repeated words included
+     * @return Number of words
+     */
+    static int tokenize(String text, Consumer<String> consumer) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        
+        // Decomposed form: accents become combining marks, skipped below without splitting the word
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder word = new StringBuilder();
+        int count = 0;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK && !word.isEmpty()) {
+                consumer.accept(word.toString());
+                word.setLength(0);
+                count++;
+            }
+        }
+        if (!word.isEmpty()) {
+            consumer.accept(word.toString());
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,301 @@
+package com.neosoft.practice_software.infrastructure.stats;
+
+import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.application.dao.TaskStatsSource;
+import com.neosoft.practice_software.application.service.EstimationEngine;
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChangeEvent;
+import com.neosoft.practice_software.domain.model.TaskEstimation;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStats;
+import com.neosoft.practice_software.domain.model.TaskStatsGroup;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Board statistics maintained in memory from the committed task changes.
+ * <p>
+ * Each task is kept as the few fields its grouping and estimate depend on, and the totals of its groups are
+ * adjusted on every change, so that reading the statistics only copies the totals. Estimates are summed in
+ * thousandths of an hour to avoid rounding drift.
+ * <p>
+ * Changes the events cannot describe precisely (a status change by filter racing with other writes, an update
+ * of a task not loaded yet) may leave the totals slightly off: the state is rebuilt from a streaming scan at
+ * startup and then periodically, replaying the changes committed during the scan.
+ * <p>
+ * When the estimation rules are reloaded, the estimates are recomputed from the kept fields without reading the
+ * tasks again.
+ */
+@Component
+public class InMemoryTaskStats implements TaskStatsSource {
+    
+    private final TaskDAO taskDAO;
+    private final EstimationEngine estimationEngine;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantLock reconciliation = new ReentrantLock();
+    
+    // The fields below are guarded by this
+    private Board board;
+    
+    /**
+     * Changes committed during a reconciliation, replayed on the scanned board, or null.
+     */
+    private List<TaskChangeEvent> replay;
+    
+    public InMemoryTaskStats(TaskDAO taskDAO, EstimationEngine estimationEngine,
+                             PlatformTransactionManager transactionManager) {
+        this.taskDAO = taskDAO;
+        this.estimationEngine = estimationEngine;
+        this.board = new Board(estimationEngine);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @Override
+    public synchronized TaskStats getStats() {
+        return board.toStats();
+    }
+    
+    /**
+     * Apply a committed change to the statistics.
+     * 
+     * @param event The change
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onTaskChange(TaskChangeEvent event) {
+        board.apply(event);
+        if (replay != null) {
+            replay.add(event);
+        }
+    }
+    
+    /**
+     * Recompute the estimates with new estimation rules.
+     * 
+     * @param rules The rules now applied by the engine
+     */
+    @EventListener
+    public synchronized void onRulesChange(EstimationRules rules) {
+        board = board.reestimate();
+    }
+    
+    /**
+     * Rebuild the statistics from the tasks, at startup then periodically.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.tasks.stats.reconcile-interval:10m}")
+    public void reconcile() {
+        reconciliation.lock();
+        try {
+            synchronized (this) {
+                replay = new ArrayList<>();
+            }
+            // Started after the replay, the scan cannot miss a change: it either sees it or replays it
+            EstimationRules rules = estimationEngine.getRules();
+            Board scanned = new Board(estimationEngine);
+            boolean scannedAll = false;
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> taskDAO.streamAll(scanned::put));
+                scannedAll = true;
+            } finally {
+                synchronized (this) {
+                    List<TaskChangeEvent> committed = replay;
+                    replay = null;
+                    if (scannedAll) {
+                        committed.forEach(scanned::apply);
+                        // Rules reloaded during the scan: some tasks were estimated with the previous ones
+                        board = estimationEngine.getRules() == rules ? scanned : scanned.reestimate();
+                    }
+                }
+            }
+        } finally {
+            reconciliation.unlock();
+        }
+    }
+    
+    /**
+     * Fields of a task that its groups and estimate depend on.
+     */
+    private record Entry(TaskStatus status, UUID assigneeId, TaskPriority priority, int descriptionWords,
+                         long estimateMillis) {
+        
+        static Entry of(EstimationEngine engine, TaskStatus status, UUID assigneeId, TaskPriority priority,
+                        int descriptionWords) {
+            double hours = engine.estimate(priority, status, descriptionWords);
+            return new Entry(status, assigneeId, priority, descriptionWords, Math.round(hours * 1000));
+        }
+    }
+    
+    /**
+     * Count and estimate of a group.
+     */
+    private static final class Totals {
+        
+        private long count;
+        private long estimateMillis;
+        
+        void add(Entry entry, int sign) {
+            count += sign;
+            estimateMillis += sign * entry.estimateMillis();
+        }
+        
+        TaskStatsGroup toGroup(Object key) {
+            return new TaskStatsGroup(key == null ? null : key.toString(), count, estimateMillis / 1000.0);
+        }
+    }
+    
+    /**
+     * Tasks and totals of the board.
+     */
+    private static final class Board {
+        
+        private static final Comparator<TaskStatsGroup> BY_KEY = Comparator.comparing(TaskStatsGroup::key,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        
+        private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+        
+        private final EstimationEngine engine;
+        private final Map<UUID, Entry> tasks = new HashMap<>();
+        private final Totals total = new Totals();
+        private final Map<TaskStatus, Totals> byStatus = new EnumMap<>(TaskStatus.class);
+        private final Map<UUID, Totals> byAssignee = new HashMap<>();
+        
+        /**
+         * Totals per priority ordinal, the tasks without priority in the last slot.
+         */
+        private final Totals[] byPriority = new Totals[PRIORITIES.length + 1];
+        
+        Board(EstimationEngine engine) {
+            this.engine = engine;
+            for (int slot = 0; slot < byPriority.length; slot++) {
+                byPriority[slot] = new Totals();
+            }
+        }
+        
+        void put(Task task) {
+            put(task.getId(), Entry.of(engine, task.getStatus(), task.getAssigneeId(), task.getPriority(),
+                    TaskEstimation.countWords(task.getDescription())));
+        }
+        
+        void apply(TaskChangeEvent event) {
+            Map<String, Object> changes = event.changes();
+            switch (event.type()) {
+                case CREATED, RESTORED -> put(event.task());
+                case UPDATED, STATUS_CHANGED, ASSIGNED -> event.taskIds().forEach(id -> change(id, changes));
+                case BULK_STATUS_CHANGED -> {
+                    List<UUID> ids = event.taskIds();
+                    if (ids.isEmpty()) {
+                        // Status change by filter: the same filter is applied to the known tasks
+                        Object from = changes.get("from");
+                        Object assigneeId = changes.get("assigneeId");
+                        ids = tasks.entrySet().stream()
+                                .filter(task -> Objects.equals(task.getValue().status(), from))
+                                .filter(task -> assigneeId == null || assigneeId.equals(task.getValue().assigneeId()))
+                                .map(Map.Entry::getKey)
+                                .toList();
+                    }
+                    ids.forEach(id -> change(id, changes));
+                }
+                case DELETED, ARCHIVED -> event.taskIds().forEach(this::remove);
+            }
+        }
+        
+        /**
+         * Copy of the board with the estimates of the current rules.
+         */
+        Board reestimate() {
+            Board reestimated = new Board(engine);
+            tasks.forEach((id, entry) -> reestimated.put(id, Entry.of(engine, entry.status(), entry.assigneeId(),
+                    entry.priority(), entry.descriptionWords())));
+            return reestimated;
+        }
+        
+        TaskStats toStats() {
+            return new TaskStats(total.count, total.estimateMillis / 1000.0, groups(byStatus), groups(byAssignee),
+                    priorityGroups());
+        }
+        
+        /**
+         * Apply new field values to a known task, unknown tasks are left to the next reconciliation.
+         */
+        private void change(UUID id, Map<String, Object> changes) {
+            Entry entry = tasks.get(id);
+            if (entry == null) {
+                return;
+            }
+            TaskStatus status = changes.containsKey("status") ? (TaskStatus) changes.get("status") : entry.status();
+            UUID assigneeId = changes.containsKey("assigneeId") ? (UUID) changes.get("assigneeId") : entry.assigneeId();
+            TaskPriority priority = changes.containsKey("priority")
+                    ? (TaskPriority) changes.get("priority")
+                    : entry.priority();
+            int descriptionWords = changes.containsKey("description")
+                    ? TaskEstimation.countWords((String) changes.get("description"))
+                    : entry.descriptionWords();
+            put(id, Entry.of(engine, status, assigneeId, priority, descriptionWords));
+        }
+        
+        private void put(UUID id, Entry entry) {
+            Entry previous = tasks.put(id, entry);
+            if (previous != null) {
+                account(previous, -1);
+            }
+            account(entry, 1);
+        }
+        
+        private void remove(UUID id) {
+            Entry previous = tasks.remove(id);
+            if (previous != null) {
+                account(previous, -1);
+            }
+        }
+        
+        private void account(Entry entry, int sign) {
+            total.add(entry, sign);
+            add(byStatus, entry.status(), entry, sign);
+            add(byAssignee, entry.assigneeId(), entry, sign);
+            byPriority[entry.priority() == null ? PRIORITIES.length : entry.priority().ordinal()].add(entry, sign);
+        }
+        
+        private static <K> void add(Map<K, Totals> groups, K key, Entry entry, int sign) {
+            Totals totals = groups.computeIfAbsent(key, k -> new Totals());
+            totals.add(entry, sign);
+            if (totals.count == 0) {
+                groups.remove(key);
+            }
+        }
+        
+        private static List<TaskStatsGroup> groups(Map<?, Totals> groups) {
+            List<TaskStatsGroup> result = new ArrayList<>(groups.size());
+            groups.forEach((key, totals) -> result.add(totals.toGroup(key)));
+            result.sort(BY_KEY);
+            return result;
+        }
+        
+        private List<TaskStatsGroup> priorityGroups() {
+            List<TaskStatsGroup> result = new ArrayList<>(byPriority.length);
+            for (int slot = 0; slot < byPriority.length; slot++) {
+                if (byPriority[slot].count > 0) {
+                    result.add(byPriority[slot].toGroup(slot < PRIORITIES.length ? PRIORITIES[slot] : null));
+                }
+            }
+            result.sort(BY_KEY);
+            return result;
+        }
+    }
+}
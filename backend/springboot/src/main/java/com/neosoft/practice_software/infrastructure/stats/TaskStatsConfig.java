@@ -0,0 +1,12 @@
+package com.neosoft.practice_software.infrastructure.stats;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the periodic reconciliation of {@link InMemoryTaskStats}.
+ */
+@Configuration
+@EnableScheduling
+public class TaskStatsConfig {
+}
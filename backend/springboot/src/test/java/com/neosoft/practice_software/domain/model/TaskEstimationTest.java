@@ -0,0 +1,17 @@
+package com.neosoft.practice_software.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEstimationTest {
+
+    @Test
+    void countWords_ShouldCountRunsOfNonWhitespaceCharacters() {
+        assertThat(TaskEstimation.countWords(null)).isZero();
+        assertThat(TaskEstimation.countWords("")).isZero();
+        assertThat(TaskEstimation.countWords(" \t\n")).isZero();
+        assertThat(TaskEstimation.countWords("Description for task 1")).isEqualTo(4);
+        assertThat(TaskEstimation.countWords("  several\tspaces \r\n and\u000Blines  ")).isEqualTo(4);
+    }
+}
@@ -12,13 +12,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -118,4 +122,30 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.errorId").exists())
                 .andExpect(jsonPath("$.timestamp").exists());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void whenIfMatchIsNotAVersion_ShouldReturnPreconditionFailed() throws Exception {
+        // When/Then
+        mockMvc.perform(put("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010/status")
+                .param("status", "DONE")
+                .header("If-Match", "W/\"task-1-0\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("Precondition Failed"))
+                .andExpect(jsonPath("$.errorId").exists());
+    }
+
+    @Test
+    void whenServiceThrowsOptimisticLockingFailure_ShouldReturnConflict() throws Exception {
+        // Given
+        when(taskService.updateTaskStatus(any(), anyString(), eq(3L)))
+                .thenThrow(new OptimisticLockingFailureException("Row was updated by another transaction"));
+
+        // When/Then
+        mockMvc.perform(put("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010/status")
+                .param("status", "DONE")
+                .header("If-Match", "\"task-3-0\""))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.errorId").exists());
+    }
+}
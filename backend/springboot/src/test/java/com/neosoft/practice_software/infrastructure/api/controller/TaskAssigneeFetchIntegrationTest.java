@@ -0,0 +1,55 @@
+package com.neosoft.practice_software.infrastructure.api.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:assigneefetch;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
+@AutoConfigureMockMvc
+class TaskAssigneeFetchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getTasksWithAssignees_ShouldNotRunOneStatementPerTask() throws Exception {
+        // Five tasks with five distinct assignees: lazy assignees would add one statement per task, or per batch
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/tasks").param("include", "assignee"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[4].assignee.username").isNotEmpty());
+        // The tasks and users versions of the ETag, then the tasks with their assignees
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/tasks/page").param("include", "assignee"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[4].assignee.username").isNotEmpty());
+        // The page with its assignees
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.neosoft.practice_software.infrastructure.api.controller;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -7,12 +8,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -38,6 +49,30 @@ class TaskControllerIntegrationTest {
                 .andExpect(content().json(fileToString("tasks/task-test-data.json"), true));
     }
 
+    @Test
+    void getAllTasks_WithoutAssignee_ShouldNotReturnAssignees() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("include", "none")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].assigneeId").isNotEmpty())
+                .andExpect(jsonPath("$[0].assignee").value(nullValue()));
+    }
+
+    @Test
+    void exportTasks_ShouldStreamOneJsonLinePerTask() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).contains("\"id\":\"550e8400-e29b-41d4-a716-446655440010\"");
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+
     @Test
     void getTaskById_ShouldReturnTask() throws Exception {
         // Get a valid task ID from test data
@@ -59,4 +94,364 @@ class TaskControllerIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getTasksPage_ShouldFollowCursorUntilLastPage() throws Exception {
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/tasks/page")
+                .param("size", "2")
+                .param("sort", "createdAt")
+                .param("direction", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value("550e8400-e29b-41d4-a716-446655440010"))
+                .andExpect(jsonPath("$.items[1].id").value("550e8400-e29b-41d4-a716-446655440011"))
+                .andReturn();
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        MvcResult secondPage = mockMvc.perform(get("/api/v1/tasks/page")
+                .param("cursor", cursor)
+                .param("size", "2")
+                .param("sort", "createdAt")
+                .param("direction", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value("550e8400-e29b-41d4-a716-446655440012"))
+                .andExpect(jsonPath("$.items[1].id").value("550e8400-e29b-41d4-a716-446655440013"))
+                .andReturn();
+        cursor = JsonPath.read(secondPage.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/v1/tasks/page")
+                .param("cursor", cursor)
+                .param("size", "2")
+                .param("sort", "createdAt")
+                .param("direction", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value("550e8400-e29b-41d4-a716-446655440014"))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    void getTasksPage_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/page")
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void createTasks_ShouldCreateValidTasksAndRejectOthers() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(fileToString("tasks/bulk-create-request.json")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].created").value(true))
+                .andExpect(jsonPath("$[0].task.id").isNotEmpty())
+                .andExpect(jsonPath("$[0].task.title").value("Bulk task"))
+                .andExpect(jsonPath("$[1].created").value(false))
+                .andExpect(jsonPath("$[1].error").value("A task with this title already exists for this user"))
+                .andExpect(jsonPath("$[2].created").value(false))
+                .andExpect(jsonPath("$[2].error").value("Assignee not found with ID: 550e8400-e29b-41d4-a716-446655449999"))
+                .andExpect(jsonPath("$[3].index").value(3))
+                .andExpect(jsonPath("$[3].created").value(false))
+                .andExpect(jsonPath("$[3].error").value("A task with this title already exists for this user"));
+    }
+
+    @Test
+    @Transactional
+    void updateTasksStatus_ByFilter_ShouldUpdateMatchingTasks() throws Exception {
+        mockMvc.perform(put("/api/v1/tasks/status")
+                .param("from", "TODO")
+                .param("to", "DONE")
+                .param("assigneeId", "550e8400-e29b-41d4-a716-446655440000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(1));
+
+        mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+        mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440013"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("TODO"));
+    }
+
+    @Test
+    @Transactional
+    void updateTasksStatus_ByIds_ShouldIgnoreUnknownIds() throws Exception {
+        mockMvc.perform(put("/api/v1/tasks/status/batch")
+                .param("to", "TODO")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"550e8400-e29b-41d4-a716-446655440011\", \"550e8400-e29b-41d4-a716-446655440012\", "
+                        + "\"" + UUID.randomUUID() + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updatedCount").value(2));
+    }
+
+    @Test
+    void updateTasksStatus_WithInvalidStatus_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(put("/api/v1/tasks/status")
+                .param("from", "TODO")
+                .param("to", "ARCHIVED"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getAllTasks_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/tasks").param("include", "none").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getTaskById_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    void getTaskById_WithOutdatedETag_ShouldReturnTask() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010/status").param("status", "DONE"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    @Transactional
+    void getTaskById_AfterAssigneeUpdate_ShouldTagTheServedAssignee() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(put("/api/v1/users/550e8400-e29b-41d4-a716-446655440000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"alice.renamed\",\"email\":\"alice@example.com\",\"role\":\"ADMIN\","
+                        + "\"createdAt\":\"2024-01-01T00:00:00\"}"))
+                .andExpect(status().isOk());
+
+        String renamedETag = mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010")
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assignee.username").value("alice.renamed"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(renamedETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void getAllUsers_WithCurrentETag_ShouldReturnNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/users"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/users").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    void updateTaskStatus_WithOutdatedIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        String newETag = mockMvc.perform(put("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010/status")
+                .param("status", "IN_PROGRESS")
+                .header("If-Match", eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(newETag).isNotEqualTo(eTag);
+
+        mockMvc.perform(put("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010/status")
+                .param("status", "DONE")
+                .header("If-Match", eTag))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010/status")
+                .param("status", "DONE")
+                .header("If-Match", newETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    void getTaskChanges_WithoutToken_ShouldPageThroughAllTasks() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/v1/tasks/changes").param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(3))
+                .andExpect(jsonPath("$.changed[0].assignee").value(nullValue()))
+                .andExpect(jsonPath("$.deleted.length()").value(0))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+        String token = JsonPath.read(first.getResponse().getContentAsString(), "$.token");
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", token).param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @Transactional
+    void getTaskChanges_WithToken_ShouldReturnOnlyTheChangesAndDeletionsSince() throws Exception {
+        MvcResult sync = mockMvc.perform(get("/api/v1/tasks/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(5))
+                .andReturn();
+        String token = JsonPath.read(sync.getResponse().getContentAsString(), "$.token");
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(0))
+                .andExpect(jsonPath("$.token").value(token));
+
+        mockMvc.perform(put("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010/status").param("status", "DONE"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440014"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].id").value("550e8400-e29b-41d4-a716-446655440010"))
+                .andExpect(jsonPath("$.changed[0].status").value("DONE"))
+                .andExpect(jsonPath("$.deleted.length()").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value("550e8400-e29b-41d4-a716-446655440014"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getTaskChanges_WithInvalidToken_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteTask_WhenMissing_ShouldReturn404() throws Exception {
+        mockMvc.perform(delete("/api/v1/tasks/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void searchTasks_ShouldReturnTheTasksContainingAllTheWords() throws Exception {
+        // The index is rebuilt in the background once the application is ready
+        String content = "[]";
+        for (int attempt = 0; attempt < 100 && content.equals("[]"); attempt++) {
+            Thread.sleep(50);
+            content = mockMvc.perform(get("/api/v1/tasks/search").param("q", "TASK 2"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+        }
+
+        assertThat(JsonPath.<Integer>read(content, "$.length()")).isEqualTo(1);
+        assertThat(JsonPath.<String>read(content, "$[0].task.id")).isEqualTo("550e8400-e29b-41d4-a716-446655440011");
+        assertThat(JsonPath.<String>read(content, "$[0].task.assignee.username")).isEqualTo("bob");
+        assertThat(JsonPath.<Double>read(content, "$[0].score")).isPositive();
+    }
+
+    @Test
+    void getTaskStats_ShouldCountAndEstimateTheTasksPerGroup() throws Exception {
+        // The statistics are built in the background once the application is started
+        String content = "";
+        for (int attempt = 0; attempt < 100 && !content.contains("\"count\":5,"); attempt++) {
+            Thread.sleep(50);
+            content = mockMvc.perform(get("/api/v1/tasks/stats"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+        }
+
+        assertThat(JsonPath.<Integer>read(content, "$.count")).isEqualTo(5);
+        assertThat(JsonPath.<Double>read(content, "$.estimatedHours")).isEqualTo(8.75);
+        assertThat(JsonPath.<String>read(content, "$.byStatus[0].key")).isEqualTo("DONE");
+        assertThat(JsonPath.<Double>read(content, "$.byStatus[0].estimatedHours")).isEqualTo(0.25);
+        assertThat(JsonPath.<Integer>read(content, "$.byStatus[2].count")).isEqualTo(2);
+        assertThat(JsonPath.<Integer>read(content, "$.byAssignee.length()")).isEqualTo(5);
+        assertThat(JsonPath.<Integer>read(content, "$.byPriority.length()")).isEqualTo(3);
+    }
+
+    @Test
+    void estimateTasks_ByStatus_ShouldReturnEachEstimateAndTheTotal() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/estimate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(2))
+                .andExpect(jsonPath("$.tasks[*].hours", hasItem(1.4)))
+                // 2.0 * 0.7 (MEDIUM) + 2.0 * 1.5 * 0.7 (HIGH)
+                .andExpect(jsonPath("$.totalHours").value(closeTo(3.5, 1e-9)));
+    }
+
+    @Test
+    void estimateTasks_ByIds_ShouldIgnoreUnknownIds() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/estimate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskIds\":[\"550e8400-e29b-41d4-a716-446655440012\",\"550e8400-e29b-41d4-a716-446655449999\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks.length()").value(1))
+                .andExpect(jsonPath("$.tasks[0].taskId").value("550e8400-e29b-41d4-a716-446655440012"))
+                .andExpect(jsonPath("$.totalHours").value(0.25));
+    }
+
+    @Test
+    void estimateTasks_WithoutCriteria_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/estimate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Estimation requires task IDs, an assignee or a status"));
+    }
+
+    @Test
+    void estimateTasks_WithInvalidStatus_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/estimate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"BLOCKED\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid status: BLOCKED"));
+    }
+
+    @Test
+    void getEstimationRules_ShouldReturnTheConfiguredRules() throws Exception {
+        mockMvc.perform(get("/api/v1/estimation/rules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.baseHours").value(2.0))
+                .andExpect(jsonPath("$.priorityFactors.HIGH").value(1.5))
+                .andExpect(jsonPath("$.statusFactors.IN_PROGRESS").value(0.7))
+                .andExpect(jsonPath("$.wordsPerStep").value(50));
+    }
+
+    @Test
+    void updateEstimationRules_WithInvalidRules_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(put("/api/v1/estimation/rules")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"baseHours\":2.0,\"minimumHours\":0.25,\"wordsPerStep\":0,\"hoursPerStep\":0.5}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Words per step must be positive"));
+    }
+
+    @Test
+    void searchTasks_WithBlankQuery_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/search").param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Search query is required"));
+    }
+}
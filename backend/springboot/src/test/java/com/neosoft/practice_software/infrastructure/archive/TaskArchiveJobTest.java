@@ -0,0 +1,125 @@
+package com.neosoft.practice_software.infrastructure.archive;
+
+import com.neosoft.practice_software.application.dao.TaskSearchIndex;
+import com.neosoft.practice_software.application.service.TaskService;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskCreationResult;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive;DB_CLOSE_DELAY=-1",
+        "app.tasks.batch.size=2",
+        "app.tasks.batch.pause=0ms"})
+class TaskArchiveJobTest {
+
+    private static final UUID ALICE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2020, 1, 1, 12, 0);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskArchiveJob archiveJob;
+
+    @Autowired
+    private TaskSearchIndex searchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void resetCheckpoint() {
+        // Each test ages its tasks to the same dates, a checkpoint left by another test would skip them
+        jdbcTemplate.update("delete from task_archive_checkpoint");
+    }
+
+    @Test
+    void oldDoneTasks_ShouldBeMovedInBatchesAndStayReadable() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(new Task(null, "Archived task " + i, null, TaskStatus.DONE, TaskPriority.LOW, null, null, null,
+                    ALICE_ID, null, null));
+        }
+        List<UUID> ids = taskService.createTasks(tasks).stream()
+                .map(TaskCreationResult::getTask)
+                .map(Task::getId)
+                .toList();
+        jdbcTemplate.update("update tasks set updated_at = ? where title like 'Archived task %'", LONG_AGO);
+
+        assertThat(archiveJob.archive(LONG_AGO.minusDays(1))).isZero();
+        assertThat(archiveJob.archive(LONG_AGO.plusDays(1))).isEqualTo(5);
+        assertThat(countRows("tasks", ids.get(0))).isZero();
+        assertThat(countRows("tasks_archive", ids.get(0))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from task_archive_checkpoint", Integer.class))
+                .isEqualTo(1);
+
+        // A second run resumes after the checkpoint and finds nothing left to move
+        assertThat(archiveJob.archive(LONG_AGO.plusDays(1))).isZero();
+
+        assertThat(taskService.getTaskById(ids.get(0)))
+                .hasValueSatisfying(task -> assertThat(task.getTitle()).isEqualTo("Archived task 0"));
+        assertThat(taskService.getAllTasks(false, false)).extracting(Task::getId).doesNotContainAnyElementsOf(ids);
+        assertThat(taskService.getAllTasks(false, true)).extracting(Task::getId).containsAll(ids);
+    }
+
+    @Test
+    void updatingArchivedTask_ShouldRestoreIt() {
+        Task task = taskService.createTask(new Task(null, "Restored task", null, TaskStatus.DONE, TaskPriority.LOW,
+                null, null, null, ALICE_ID, null, null));
+        jdbcTemplate.update("update tasks set updated_at = ? where id = ?", LONG_AGO.minusDays(1), task.getId());
+        assertThat(archiveJob.archive(LONG_AGO)).isEqualTo(1);
+
+        Task updated = taskService.updateTaskStatus(task.getId(), "IN_PROGRESS", null);
+
+        assertThat(updated.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(countRows("tasks", task.getId())).isEqualTo(1);
+        assertThat(countRows("tasks_archive", task.getId())).isZero();
+        assertThat(taskService.getAllTasks(false, false)).extracting(Task::getId).contains(task.getId());
+    }
+
+    @Test
+    void archivedTasks_ShouldLeaveTheStatisticsAndTheSearchIndexUntilRestored() throws InterruptedException {
+        Task task = taskService.createTask(new Task(null, "Zeppelin launch", null, TaskStatus.DONE,
+                TaskPriority.LOW, null, null, null, ALICE_ID, null, null));
+        awaitSearchHits("zeppelin", 1);
+        long count = taskService.getTaskStats().count();
+
+        jdbcTemplate.update("update tasks set updated_at = ? where id = ?", LONG_AGO.minusDays(1), task.getId());
+        assertThat(archiveJob.archive(LONG_AGO)).isEqualTo(1);
+
+        assertThat(taskService.getTaskStats().count()).isEqualTo(count - 1);
+        awaitSearchHits("zeppelin", 0);
+
+        taskService.updateTaskStatus(task.getId(), "IN_PROGRESS", null);
+
+        assertThat(taskService.getTaskStats().count()).isEqualTo(count);
+        awaitSearchHits("zeppelin", 1);
+    }
+
+    /**
+     * Wait for the index, updated in the background, to return the expected number of hits.
+     */
+    private void awaitSearchHits(String query, int expected) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && searchIndex.search(query, 10).size() != expected; attempt++) {
+            Thread.sleep(50);
+        }
+        assertThat(searchIndex.search(query, 10)).hasSize(expected);
+    }
+
+    private int countRows(String table, UUID id) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where id = ?", Integer.class, id);
+    }
+}
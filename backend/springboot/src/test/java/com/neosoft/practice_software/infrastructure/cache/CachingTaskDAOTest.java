@@ -0,0 +1,128 @@
+package com.neosoft.practice_software.infrastructure.cache;
+
+import com.neosoft.practice_software.application.dao.UserDAO;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.domain.model.User;
+import com.neosoft.practice_software.infrastructure.jpa.dao.TaskDAOImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTaskDAOTest {
+
+    private static final UUID TASK_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440010");
+
+    private static final UUID ALICE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Mock
+    private TaskDAOImpl delegate;
+
+    @Mock
+    private UserDAO userDAO;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingTaskDAO cachingTaskDAO;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingTaskDAO = new CachingTaskDAO(delegate, userDAO, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findById_ShouldLoadOnceAndReturnCopies() {
+        when(delegate.findById(TASK_ID)).thenReturn(Optional.of(task(TaskStatus.TODO)));
+
+        Task first = cachingTaskDAO.findById(TASK_ID).orElseThrow();
+        first.setStatus(TaskStatus.DONE);
+        Task second = cachingTaskDAO.findById(TASK_ID).orElseThrow();
+
+        assertThat(second.getStatus()).isEqualTo(TaskStatus.TODO);
+        verify(delegate, times(1)).findById(TASK_ID);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "tasks").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findById_ShouldResolveTheCurrentAssigneeOnHits() {
+        Task loaded = task(TaskStatus.TODO);
+        loaded.setAssigneeId(ALICE_ID);
+        loaded.setAssignee(user("alice"));
+        when(delegate.findById(TASK_ID)).thenReturn(Optional.of(loaded));
+        when(userDAO.findById(ALICE_ID)).thenReturn(Optional.of(user("alice.renamed")));
+
+        cachingTaskDAO.findById(TASK_ID).orElseThrow().getAssignee().setUsername("mutated");
+        Task cached = cachingTaskDAO.findById(TASK_ID).orElseThrow();
+
+        assertThat(cached.getAssigneeId()).isEqualTo(ALICE_ID);
+        assertThat(cached.getAssignee().getUsername()).isEqualTo("alice.renamed");
+        verify(delegate, times(1)).findById(TASK_ID);
+    }
+
+    @Test
+    void update_ShouldInvalidateOnlyAfterCommit() {
+        when(delegate.findById(TASK_ID))
+                .thenReturn(Optional.of(task(TaskStatus.TODO)), Optional.of(task(TaskStatus.DONE)));
+        when(delegate.update(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        cachingTaskDAO.findById(TASK_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cachingTaskDAO.update(task(TaskStatus.DONE));
+        assertThat(cachingTaskDAO.findById(TASK_ID).orElseThrow().getStatus()).isEqualTo(TaskStatus.TODO);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(cachingTaskDAO.findById(TASK_ID).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+        verify(delegate, times(2)).findById(TASK_ID);
+    }
+
+    @Test
+    void updateStatus_ShouldInvalidateAllTasks() {
+        when(delegate.findById(TASK_ID))
+                .thenReturn(Optional.of(task(TaskStatus.TODO)), Optional.of(task(TaskStatus.DONE)));
+        when(delegate.updateStatus(TaskStatus.TODO, TaskStatus.DONE, null)).thenReturn(1);
+        cachingTaskDAO.findById(TASK_ID);
+
+        cachingTaskDAO.updateStatus(TaskStatus.TODO, TaskStatus.DONE, null);
+
+        assertThat(cachingTaskDAO.findById(TASK_ID).orElseThrow().getStatus()).isEqualTo(TaskStatus.DONE);
+    }
+
+    private static Task task(TaskStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Task(TASK_ID, "Task 1", null, status, TaskPriority.HIGH, null, now, now, null, null, 0L);
+    }
+
+    private static User user(String username) {
+        LocalDateTime now = LocalDateTime.now();
+        return new User(ALICE_ID, username, username + "@example.com", "USER", now, now, 0L);
+    }
+}
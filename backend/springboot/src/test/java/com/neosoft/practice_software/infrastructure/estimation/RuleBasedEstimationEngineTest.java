@@ -0,0 +1,97 @@
+package com.neosoft.practice_software.infrastructure.estimation;
+
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RuleBasedEstimationEngineTest {
+
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    void estimate_WithDefaultRules_ShouldApplyTheOriginalRules() {
+        RuleBasedEstimationEngine engine = engine(0);
+
+        // (2.0 * 1.5 + 2 * 0.5)
+        assertThat(engine.estimate(TaskPriority.HIGH, TaskStatus.TODO, 120)).isEqualTo(4.0);
+        // (2.0 * 0.75 + 0.5) * 0.7
+        assertThat(engine.estimate(TaskPriority.LOW, TaskStatus.IN_PROGRESS, 50)).isEqualTo(1.4);
+        assertThat(engine.estimate(TaskPriority.MEDIUM, TaskStatus.TODO, 0)).isEqualTo(2.0);
+        assertThat(engine.estimate(null, TaskStatus.TODO, 0)).isEqualTo(2.0);
+        assertThat(engine.estimate(TaskPriority.LOW, TaskStatus.DONE, 500)).isEqualTo(0.25);
+    }
+
+    @Test
+    void estimate_ShouldReuseTheResultUntilTheTaskIsUpdated() {
+        RuleBasedEstimationEngine engine = engine(100);
+        Task task = task("word ".repeat(120), LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        assertThat(engine.estimate(task)).isEqualTo(3.0);
+
+        task.setDescription(null);
+        assertThat(engine.estimate(task)).isEqualTo(3.0);
+
+        task.setUpdatedAt(task.getUpdatedAt().plusSeconds(1));
+        assertThat(engine.estimate(task)).isEqualTo(2.0);
+    }
+
+    @Test
+    void estimate_WithoutMemo_ShouldEvaluateEveryTime() {
+        RuleBasedEstimationEngine engine = engine(0);
+        Task task = task("word ".repeat(120), LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        assertThat(engine.estimate(task)).isEqualTo(3.0);
+
+        task.setDescription(null);
+        assertThat(engine.estimate(task)).isEqualTo(2.0);
+    }
+
+    @Test
+    void reload_ShouldApplyTheNewRulesAndPublishThem() {
+        RuleBasedEstimationEngine engine = engine(100);
+        Task task = task(null, LocalDateTime.of(2025, 1, 1, 12, 0));
+        assertThat(engine.estimate(task)).isEqualTo(2.0);
+        EstimationRules rules = new EstimationRules(4.0, 1.0, Map.of(), Map.of(TaskStatus.DONE, 0.0), 10, 1.0);
+
+        engine.reload(rules);
+
+        // The memo of the previous rules is dropped with them
+        assertThat(engine.estimate(task)).isEqualTo(4.0);
+        assertThat(engine.estimate(TaskPriority.HIGH, TaskStatus.DONE, 0)).isEqualTo(1.0);
+        assertThat(engine.getRules()).isEqualTo(rules);
+        assertThat(events).containsExactly(rules);
+    }
+
+    @Test
+    void reload_WithInvalidRules_ShouldKeepTheCurrentRules() {
+        RuleBasedEstimationEngine engine = engine(0);
+
+        assertThatThrownBy(() -> engine.reload(
+                new EstimationRules(2.0, 0.25, Map.of(TaskPriority.HIGH, -1.0), Map.of(), 50, 0.5)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> engine.reload(null)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(engine.getRules()).isEqualTo(EstimationRules.DEFAULT);
+        assertThat(events).isEmpty();
+    }
+
+    private RuleBasedEstimationEngine engine(long memoSize) {
+        return new RuleBasedEstimationEngine(EstimationRules.DEFAULT, memoSize, events::add);
+    }
+
+    private static Task task(String description, LocalDateTime updatedAt) {
+        return new Task(UUID.randomUUID(), "Task", description, TaskStatus.TODO, TaskPriority.MEDIUM, null, updatedAt,
+                updatedAt, null, null, 0L);
+    }
+}
@@ -0,0 +1,149 @@
+package com.neosoft.practice_software.infrastructure.events;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:events;DB_CLOSE_DELAY=-1",
+                "app.events.tasks.heartbeat-interval=200ms"})
+@ExtendWith(OutputCaptureExtension.class)
+class TaskEventBroadcasterIntegrationTest {
+
+    private static final String TASK_ID = "550e8400-e29b-41d4-a716-446655440010";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskEventBroadcaster broadcaster;
+
+    @Test
+    void statusChange_ShouldBePushedToTheSubscribersAfterCommit() throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<InputStream> feed = client.send(
+                    HttpRequest.newBuilder(uri("/api/v1/tasks/events"))
+                            .header("Accept", "text/event-stream")
+                            .build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            assertThat(feed.statusCode()).isEqualTo(200);
+            assertThat(feed.headers().firstValue("Content-Type")).hasValueSatisfying(
+                    contentType -> assertThat(contentType).startsWith("text/event-stream"));
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(feed.body(), StandardCharsets.UTF_8))) {
+                List<String> opening = readEvent(reader);
+                assertThat(opening).anyMatch(line -> line.startsWith("id:"));
+                assertThat(opening).anyMatch(line -> line.startsWith("retry:"));
+
+                HttpResponse<String> update = client.send(
+                        HttpRequest.newBuilder(uri("/api/v1/tasks/" + TASK_ID + "/status?status=IN_PROGRESS"))
+                                .PUT(HttpRequest.BodyPublishers.noBody())
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString());
+                assertThat(update.statusCode()).isEqualTo(200);
+
+                List<String> event = readEvent(reader);
+                while (event.stream().allMatch(line -> line.startsWith(":"))) {
+                    // Skip the heartbeats
+                    event = readEvent(reader);
+                }
+                assertThat(event).anyMatch(line -> line.startsWith("id:"));
+                assertThat(event).anyMatch(line -> line.startsWith("data:")
+                        && line.contains("\"type\":\"STATUS_CHANGED\"")
+                        && line.contains(TASK_ID)
+                        && line.contains("\"status\":\"IN_PROGRESS\""));
+
+                assertThat(readEvent(reader)).containsExactly(":heartbeat");
+            }
+        }
+    }
+
+    @Test
+    void reconnection_WithAStaleLastEventId_ShouldReceiveAResync() throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<InputStream> feed = client.send(
+                    HttpRequest.newBuilder(uri("/api/v1/tasks/events"))
+                            .header("Accept", "text/event-stream")
+                            .header("Last-Event-ID", "-1")
+                            .build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(feed.body(), StandardCharsets.UTF_8))) {
+                readEvent(reader);
+                assertThat(readEvent(reader)).anyMatch(line -> line.startsWith("data:")
+                        && line.contains("\"type\":\"RESYNC\""));
+            }
+        }
+
+        // The next heartbeat fails on the closed connection and drops the subscriber
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (broadcaster.getSubscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void closedFeed_ShouldBeDroppedWithoutLoggingAnError(CapturedOutput output) throws Exception {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<InputStream> feed = client.send(
+                    HttpRequest.newBuilder(uri("/api/v1/tasks/events"))
+                            .header("Accept", "text/event-stream")
+                            .build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(feed.body(), StandardCharsets.UTF_8))) {
+                readEvent(reader);
+            }
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (broadcaster.getSubscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        // Leave the container time to dispatch the disconnection to the exception handlers
+        Thread.sleep(1000);
+
+        assertThat(output.getOut()).doesNotContain(" ERROR ").doesNotContain("Failure in @ExceptionHandler");
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * Read the lines of the next event, up to the blank line that ends it.
+     */
+    private static List<String> readEvent(BufferedReader reader) throws Exception {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+            lines.add(line);
+        }
+        return lines;
+    }
+}
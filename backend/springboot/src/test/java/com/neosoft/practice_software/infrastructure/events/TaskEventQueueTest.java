@@ -0,0 +1,55 @@
+package com.neosoft.practice_software.infrastructure.events;
+
+import com.neosoft.practice_software.infrastructure.api.dto.TaskEventDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventQueueTest {
+
+    private static TaskEventDTO statusChanged() {
+        return new TaskEventDTO("STATUS_CHANGED", List.of(UUID.randomUUID()), null, Map.of("status", "DONE"));
+    }
+
+    @Test
+    void offer_WithinCapacity_ShouldKeepTheEventsInOrder() throws InterruptedException {
+        TaskEventQueue queue = new TaskEventQueue(2);
+
+        assertThat(queue.offer(1, statusChanged())).isFalse();
+        assertThat(queue.offer(2, statusChanged())).isFalse();
+
+        assertThat(queue.take().id()).isEqualTo(1);
+        assertThat(queue.take().id()).isEqualTo(2);
+    }
+
+    @Test
+    void offer_WhenFull_ShouldReplaceThePendingEventsWithAResync() throws InterruptedException {
+        TaskEventQueue queue = new TaskEventQueue(2);
+        queue.offer(1, statusChanged());
+        queue.offer(2, statusChanged());
+
+        assertThat(queue.offer(3, statusChanged())).isTrue();
+
+        assertThat(queue.size()).isEqualTo(1);
+        TaskEventQueue.Item item = queue.take();
+        assertThat(item.id()).isEqualTo(3);
+        assertThat(item.event().getType()).isEqualTo(TaskEventDTO.RESYNC);
+    }
+
+    @Test
+    void offerHeartbeat_WhenEventsArePending_ShouldNotQueueIt() throws InterruptedException {
+        TaskEventQueue queue = new TaskEventQueue(2);
+        queue.offerHeartbeat(0);
+        assertThat(queue.take().isHeartbeat()).isTrue();
+
+        queue.offer(1, statusChanged());
+        queue.offerHeartbeat(1);
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.take().isHeartbeat()).isFalse();
+    }
+}
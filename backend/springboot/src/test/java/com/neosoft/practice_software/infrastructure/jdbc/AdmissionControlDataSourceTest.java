@@ -0,0 +1,58 @@
+package com.neosoft.practice_software.infrastructure.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdmissionControlDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final DatabaseAdmission admission = new DatabaseAdmission(2, Duration.ofMillis(50));
+    private final AdmissionControlDataSource dataSource = new AdmissionControlDataSource(target, admission);
+
+    @Test
+    void getConnection_ShouldHoldAPermitUntilClosed() throws SQLException {
+        Connection pooled = mock(Connection.class);
+        when(target.getConnection()).thenReturn(pooled);
+
+        Connection connection = dataSource.getConnection();
+        assertThat(admission.availablePermits()).isEqualTo(1);
+
+        // A second close must not release a second permit
+        connection.close();
+        connection.close();
+        verify(pooled, times(2)).close();
+        assertThat(admission.availablePermits()).isEqualTo(2);
+        assertThat(connection.isClosed()).isTrue();
+    }
+
+    @Test
+    void getConnection_WhenAllPermitsAreTaken_ShouldTimeOut() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("No database permit available");
+    }
+
+    @Test
+    void getConnection_WhenThePoolFails_ShouldReleaseThePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+        assertThat(admission.availablePermits()).isEqualTo(2);
+    }
+}
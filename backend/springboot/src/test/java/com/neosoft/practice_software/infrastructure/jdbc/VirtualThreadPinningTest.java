@@ -0,0 +1,121 @@
+package com.neosoft.practice_software.infrastructure.jdbc;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs concurrent requests with the virtual-threads profile and records the JFR jdk.VirtualThreadPinned events,
+ * the JDK diagnostic behind -Djdk.tracePinnedThreads.
+ * A pinning is blamed on the application when the innermost non-JDK frame of its stack trace is ours, which
+ * means a synchronized block or native frame of ours blocked the carrier thread.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:pinning;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("virtual-threads")
+class VirtualThreadPinningTest {
+
+    private static final String APPLICATION_PACKAGE = "com.neosoft.practice_software.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+    private static final int REQUESTS = 400;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void virtualThreadsProfile_ShouldWrapTheDataSource() {
+        assertThat(dataSource).isInstanceOf(AdmissionControlDataSource.class);
+    }
+
+    @Test
+    void concurrentRequests_ShouldNotPinCarriersInApplicationCode() throws Exception {
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream();
+             HttpClient client = HttpClient.newHttpClient()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+            recording.startAsync();
+
+            List<Future<Integer>> responses;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                responses = IntStream.range(0, REQUESTS)
+                        .mapToObj(i -> executor.submit(() -> client.send(request(i),
+                                HttpResponse.BodyHandlers.discarding()).statusCode()))
+                        .toList();
+            }
+            for (Future<Integer> response : responses) {
+                assertThat(response.get()).isLessThan(400);
+            }
+            // Waits for the events recorded so far to be dispatched
+            recording.stop();
+        }
+
+        List<String> applicationPinning = pinned.stream()
+                .map(VirtualThreadPinningTest::applicationFrame)
+                .flatMap(Optional::stream)
+                .distinct()
+                .collect(Collectors.toList());
+        assertThat(applicationPinning)
+                .as("Carrier threads pinned by application frames")
+                .isEmpty();
+    }
+
+    private HttpRequest request(int i) {
+        String path = switch (i % 4) {
+            case 0 -> "/api/v1/tasks/page?size=50";
+            case 1 -> "/api/v1/tasks/550e8400-e29b-41d4-a716-446655440010";
+            case 2 -> "/api/v1/users";
+            default -> "/api/v1/tasks/550e8400-e29b-41d4-a716-44665544001" + (i % 5) + "/estimate";
+        };
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+
+    /**
+     * Find the innermost non-JDK frame of a pinning event, if it belongs to the application.
+     *
+     * @param event The jdk.VirtualThreadPinned event
+     * @return The frame, as class.method:line
+     */
+    private static Optional<String> applicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return Optional.empty();
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().anyMatch(type::startsWith)) {
+                continue;
+            }
+            if (type.startsWith(APPLICATION_PACKAGE)) {
+                return Optional.of(type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber());
+            }
+            return Optional.empty();
+        }
+        return Optional.empty();
+    }
+}
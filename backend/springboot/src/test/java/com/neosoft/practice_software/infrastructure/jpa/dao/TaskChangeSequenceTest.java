@@ -0,0 +1,78 @@
+package com.neosoft.practice_software.infrastructure.jpa.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskChangeSequenceTest {
+
+    private final TaskChangeSequence sequence = new TaskChangeSequence(() -> 10L);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete();
+        }
+    }
+
+    @Test
+    void next_ShouldContinueFromTheStoredMaximum() {
+        assertThat(sequence.watermark()).isEqualTo(10);
+        assertThat(sequence.next()).isEqualTo(11);
+        assertThat(sequence.next()).isEqualTo(12);
+        assertThat(sequence.watermark()).isEqualTo(12);
+    }
+
+    @Test
+    void watermark_ShouldStayBelowTheWritesOfOtherRunningTransactions() throws Exception {
+        CountDownLatch allocated = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            sequence.next();
+            allocated.countDown();
+            try {
+                commit.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            complete();
+        });
+        allocated.await();
+
+        // 12 is written by this transaction and committed, 11 is not committed yet
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(sequence.next()).isEqualTo(12);
+        complete();
+        assertThat(sequence.watermark()).isEqualTo(10);
+
+        commit.countDown();
+        other.get();
+        assertThat(sequence.watermark()).isEqualTo(12);
+    }
+
+    @Test
+    void watermark_ShouldIncludeTheWritesOfTheCurrentTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(sequence.next()).isEqualTo(11);
+
+        assertThat(sequence.watermark()).isEqualTo(11);
+    }
+
+    /**
+     * Run the completion callbacks of the transaction bound to the current thread, as a commit would.
+     */
+    private static void complete() {
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
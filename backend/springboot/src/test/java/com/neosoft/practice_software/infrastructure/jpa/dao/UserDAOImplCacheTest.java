@@ -0,0 +1,97 @@
+package com.neosoft.practice_software.infrastructure.jpa.dao;
+
+import com.neosoft.practice_software.application.dao.UserDAO;
+import com.neosoft.practice_software.domain.model.User;
+import com.neosoft.practice_software.infrastructure.cache.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserDAOImplCacheTest {
+
+    private static final UUID ALICE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Cache usersCache;
+    private Cache userExistsCache;
+
+    @BeforeEach
+    void setUp() {
+        usersCache = cacheManager.getCache(CacheConfig.USERS);
+        userExistsCache = cacheManager.getCache(CacheConfig.USER_EXISTS);
+        usersCache.clear();
+        userExistsCache.clear();
+    }
+
+    @Test
+    void existsById_ShouldBeCachedOnceCommitted() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(userDAO.existsById(ALICE_ID)).isTrue();
+            assertThat(userExistsCache.get(ALICE_ID)).isNull();
+        });
+
+        assertThat(userExistsCache.get(ALICE_ID, Boolean.class)).isTrue();
+    }
+
+    @Test
+    void findById_ShouldNotShareTheCachedUser() {
+        userDAO.findById(ALICE_ID).orElseThrow().setRole("MUTATED");
+
+        User cached = userDAO.findById(ALICE_ID).orElseThrow();
+        assertThat(cached.getRole()).isNotEqualTo("MUTATED");
+        cached.setRole("MUTATED");
+
+        assertThat(userDAO.findById(ALICE_ID)).get().extracting(User::getRole).isNotEqualTo("MUTATED");
+    }
+
+    @Test
+    void update_ShouldEvictOnlyAfterCommit() {
+        User user = userDAO.save(new User(null, "cache-test", "cache-test@example.com", "USER", null, null, null));
+        try {
+            assertThat(userDAO.findById(user.getId())).isPresent();
+            assertThat(usersCache.get(user.getId())).isNotNull();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                user.setRole("ADMIN");
+                userDAO.update(user);
+                assertThat(usersCache.get(user.getId())).isNotNull();
+            });
+
+            assertThat(usersCache.get(user.getId())).isNull();
+            assertThat(userDAO.findById(user.getId())).get().extracting(User::getRole).isEqualTo("ADMIN");
+        } finally {
+            userDAO.deleteById(user.getId());
+        }
+        assertThat(userDAO.existsById(user.getId())).isFalse();
+    }
+
+    @Test
+    void update_ShouldKeepCacheWhenRolledBack() {
+        assertThat(userDAO.findById(ALICE_ID)).isPresent();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User alice = userDAO.findById(ALICE_ID).orElseThrow();
+            userDAO.update(alice);
+            status.setRollbackOnly();
+        });
+
+        assertThat(usersCache.get(ALICE_ID)).isNotNull();
+    }
+}
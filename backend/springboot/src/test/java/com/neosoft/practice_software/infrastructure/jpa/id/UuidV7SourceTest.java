@@ -0,0 +1,77 @@
+package com.neosoft.practice_software.infrastructure.jpa.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7SourceTest {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final UuidV7Source source = new UuidV7Source(clock::get);
+
+    @Test
+    void next_ShouldEncodeTheTimestampVersionAndVariant() {
+        UUID id = source.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void next_ShouldIncreaseWithinTheSameMillisecond() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(source.next());
+        }
+
+        assertThat(ids).isSortedAccordingTo(UuidV7SourceTest::compareUnsigned);
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids).allMatch(id -> id.version() == 7);
+    }
+
+    @Test
+    void next_ShouldStayIncreasingWhenTheClockGoesBackwards() {
+        UUID before = source.next();
+        clock.addAndGet(-1000);
+
+        UUID after = source.next();
+
+        assertThat(compareUnsigned(after, before)).isPositive();
+    }
+
+    @Test
+    void next_ShouldFollowTheClock() {
+        UUID before = source.next();
+        clock.incrementAndGet();
+
+        UUID after = source.next();
+
+        assertThat(after.getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_001L);
+        assertThat(compareUnsigned(after, before)).isPositive();
+    }
+
+    @Test
+    void next_ShouldBeUniqueAcrossThreads() {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(source.next()));
+
+        assertThat(ids).hasSize(100_000);
+    }
+
+    /**
+     * Byte order of the UUID, as compared by PostgreSQL and H2 (UUID.compareTo compares signed longs).
+     */
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
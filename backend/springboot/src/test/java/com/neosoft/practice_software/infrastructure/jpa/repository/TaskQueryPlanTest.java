@@ -0,0 +1,252 @@
+package com.neosoft.practice_software.infrastructure.jpa.repository;
+
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.metrics.SqlStatementMetrics;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks that the SQL generated by Hibernate for the JpaTaskRepository queries is served by an index once the
+ * tasks table is large. Each query is run once, its SQL is captured by the statement inspector, then explained
+ * with the same parameter values.
+ * findAll, streamAll and findDataVersion read the whole table by design and are not checked.
+ * <p>
+ * Runs against a dedicated H2 database, or against Postgres when QUERY_PLAN_POSTGRES_URL is set
+ * (schema migrated by the application; seeded rows and updates are rolled back).
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:queryplans;DB_CLOSE_DELAY=-1")
+class TaskQueryPlanTest {
+
+    private static final int USERS = 50;
+    private static final int TASKS = 20_000;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime POSITION = NOW.minusDays(1);
+    private static final LocalDateTime ARCHIVE_POSITION = LocalDateTime.of(2024, 12, 1, 0, 0);
+    private static final long CHANGE_SEQ = 30_000;
+
+    private static final UUID ASSIGNEE = userId(7);
+    private static final UUID OTHER_ASSIGNEE = userId(8);
+    private static final UUID TASK = taskId(1234);
+    private static final UUID OTHER_TASK = taskId(4321);
+
+    // Status codes: 1 TODO, 2 IN_PROGRESS, 3 DONE
+    private static final short TODO = 1;
+    private static final short IN_PROGRESS = 2;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JpaTaskRepository repository;
+
+    @MockitoSpyBean
+    private SqlStatementMetrics statementInspector;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        String url = System.getenv("QUERY_PLAN_POSTGRES_URL");
+        if (url == null || url.isBlank()) {
+            return;
+        }
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.username",
+                () -> Objects.requireNonNullElse(System.getenv("QUERY_PLAN_POSTGRES_USERNAME"), "admin"));
+        registry.add("spring.datasource.password",
+                () -> Objects.requireNonNullElse(System.getenv("QUERY_PLAN_POSTGRES_PASSWORD"), "admin"));
+    }
+
+    @Test
+    @Transactional
+    void repositoryQueries_ShouldNotScanTasks() throws SQLException {
+        // The connection of the test transaction, so that the repository sees the seeded rows
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        seed(connection);
+        if (postgres) {
+            execute(connection, "ANALYZE users");
+            execute(connection, "ANALYZE tasks");
+        } else {
+            execute(connection, "ANALYZE");
+        }
+
+        for (QueryCase query : queryCases()) {
+            String sql = capture(query.call());
+            assertThat(sql.chars().filter(c -> c == '?').count())
+                    .as(query.name() + " parameters: " + sql)
+                    .isEqualTo(query.parameters().size());
+            String plan = explain(connection, sql, query.parameters());
+            if (postgres) {
+                assertThat(plan).as(query.name() + ": " + sql).doesNotContain("Seq Scan on tasks");
+            } else {
+                assertThat(plan).as(query.name() + ": " + sql).doesNotContainIgnoringCase("TASKS.tableScan");
+            }
+        }
+    }
+
+    /**
+     * Repository calls with selective parameter values, and those values in the order of the generated SQL.
+     */
+    private List<QueryCase> queryCases() {
+        return List.of(
+                new QueryCase("findByStatus",
+                        () -> repository.findByStatus(TaskStatus.TODO),
+                        List.of(TODO)),
+                new QueryCase("findByAssigneeId",
+                        () -> repository.findByAssigneeId(ASSIGNEE),
+                        List.of(ASSIGNEE)),
+                new QueryCase("findByTitleAndAssigneeId",
+                        () -> repository.findByTitleAndAssigneeId("Task 1234", ASSIGNEE),
+                        List.of("Task 1234", ASSIGNEE)),
+                new QueryCase("findAssigneeTitles",
+                        () -> repository.findAssigneeTitles(List.of(ASSIGNEE, OTHER_ASSIGNEE),
+                                List.of("Task 1234", "Task 4321")),
+                        List.of(ASSIGNEE, OTHER_ASSIGNEE, "Task 1234", "Task 4321")),
+                new QueryCase("findPage (updatedAt desc)",
+                        () -> repository.findPage("updatedAt", false, POSITION, TASK, 51, false),
+                        List.of(POSITION, POSITION, TASK, 51)),
+                new QueryCase("findPage (createdAt asc)",
+                        () -> repository.findPage("createdAt", true, POSITION, TASK, 51, false),
+                        List.of(POSITION, POSITION, TASK, 51)),
+                new QueryCase("findWithAssigneeById",
+                        () -> repository.findWithAssigneeById(TASK),
+                        List.of(TASK)),
+                new QueryCase("findChangedAfter",
+                        () -> repository.findChangedAfter(19_000, TASK, 19_990, Limit.of(501)),
+                        List.of(19_000L, 19_000L, TASK, 19_990L, 501)),
+                new QueryCase("findIdsDeletedBefore",
+                        () -> repository.findIdsDeletedBefore(POSITION, 500),
+                        List.of(POSITION, 500)),
+                new QueryCase("findIdsToArchive",
+                        () -> repository.findIdsToArchive(POSITION, ARCHIVE_POSITION, TASK, 500),
+                        List.of(POSITION, ARCHIVE_POSITION, ARCHIVE_POSITION, TASK, 500)),
+                new QueryCase("updateStatus",
+                        () -> repository.updateStatus(TaskStatus.TODO, TaskStatus.IN_PROGRESS, NOW, CHANGE_SEQ),
+                        List.of(IN_PROGRESS, NOW, CHANGE_SEQ, TODO)),
+                new QueryCase("updateStatusByAssigneeId",
+                        () -> repository.updateStatusByAssigneeId(TaskStatus.TODO, TaskStatus.IN_PROGRESS, ASSIGNEE,
+                                NOW, CHANGE_SEQ),
+                        List.of(IN_PROGRESS, NOW, CHANGE_SEQ, TODO, ASSIGNEE)),
+                new QueryCase("updateStatusByIds",
+                        () -> repository.updateStatusByIds(List.of(TASK, OTHER_TASK), TaskStatus.IN_PROGRESS, NOW,
+                                CHANGE_SEQ),
+                        List.of(IN_PROGRESS, NOW, CHANGE_SEQ, TASK, OTHER_TASK))
+        );
+    }
+
+    /**
+     * Run a repository call and capture the last statement Hibernate prepared for it.
+     *
+     * @param call Repository call
+     * @return The generated SQL
+     */
+    private String capture(Runnable call) {
+        clearInvocations(statementInspector);
+        call.run();
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(statementInspector, atLeastOnce()).inspect(statements.capture());
+        return statements.getValue();
+    }
+
+    /**
+     * Insert users and tasks with a realistic skew: most tasks are done, and each user owns a small share.
+     *
+     * @param connection Connection to seed
+     */
+    private static void seed(Connection connection) throws SQLException {
+        try (PreparedStatement users = connection.prepareStatement(
+                "insert into users (id, username, email, role, created_at, updated_at, version) "
+                        + "values (?, ?, ?, 'USER', ?, ?, 0)")) {
+            for (int i = 0; i < USERS; i++) {
+                users.setObject(1, userId(i));
+                users.setString(2, "plan-user-" + i);
+                users.setString(3, "plan-user-" + i + "@example.com");
+                users.setObject(4, NOW);
+                users.setObject(5, NOW);
+                users.addBatch();
+            }
+            users.executeBatch();
+        }
+
+        try (PreparedStatement tasks = connection.prepareStatement(
+                "insert into tasks (id, title, description, status, priority, due_date, created_at, updated_at, "
+                        + "assignee_id, version, change_seq) values (?, ?, null, ?, 2, ?, ?, ?, ?, 0, ?)")) {
+            for (int i = 0; i < TASKS; i++) {
+                LocalDateTime timestamp = NOW.minusMinutes(i);
+                tasks.setObject(1, taskId(i));
+                tasks.setString(2, "Task " + i);
+                // Status codes: 1 TODO, 2 IN_PROGRESS, 3 DONE
+                tasks.setShort(3, (short) (i % 50 == 0 ? 1 : i % 50 == 1 ? 2 : 3));
+                tasks.setObject(4, LocalDate.of(2024, 1, 1).plusDays(i % 1000));
+                tasks.setObject(5, timestamp);
+                tasks.setObject(6, timestamp);
+                tasks.setObject(7, userId(i % USERS));
+                tasks.setLong(8, i + 1);
+                tasks.addBatch();
+                if (i % 1000 == 999) {
+                    tasks.executeBatch();
+                }
+            }
+            tasks.executeBatch();
+        }
+    }
+
+    private static String explain(Connection connection, String sql, List<Object> parameters) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static UUID userId(int index) {
+        return new UUID(0x0a11ce00L, index);
+    }
+
+    private static UUID taskId(int index) {
+        return new UUID(0x7a5c0000L, index);
+    }
+
+    private record QueryCase(String name, Runnable call, List<Object> parameters) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.neosoft.practice_software.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    private static final String TASK_ID = "550e8400-e29b-41d4-a716-446655440010";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getTaskById_ShouldTimeDaoCallsAndCountStatements() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{id}", TASK_ID))
+                .andExpect(status().isOk());
+
+        Timer daoCalls = meterRegistry.find("dao.calls")
+                .tags("dao", "TaskDAOImpl", "method", "findById", "outcome", "success")
+                .timer();
+        assertThat(daoCalls).isNotNull();
+        assertThat(daoCalls.count()).isPositive();
+
+        Counter statements = meterRegistry.find("dao.statements")
+                .tags("dao", "TaskDAOImpl", "type", "select")
+                .counter();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isPositive();
+
+        DistributionSummary perRequest = meterRegistry.find("http.server.requests.statements")
+                .tags("method", "GET", "uri", "/api/v1/tasks/{id}")
+                .summary();
+        assertThat(perRequest).isNotNull();
+        assertThat(perRequest.count()).isPositive();
+        assertThat(perRequest.max()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldPublishHttpDaoPoolAndHibernateMeters() throws Exception {
+        mockMvc.perform(get("/api/v1/users"))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket")
+                .contains("uri=\"/api/v1/users\"")
+                .contains("dao_calls_seconds_count")
+                .contains("dao=\"UserDAOImpl\"")
+                .contains("dao_statements_total")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_sessions_open_total");
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldPublishTheMetricsOfEveryCache() throws Exception {
+        mockMvc.perform(get("/api/v1/tasks/{id}", TASK_ID))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Registered with the same tag keys, or Prometheus drops the meters registered last
+        assertThat(scrape)
+                .contains("cache=\"users\"")
+                .contains("cache=\"userExists\"")
+                .contains("cache=\"tasks\"");
+    }
+}
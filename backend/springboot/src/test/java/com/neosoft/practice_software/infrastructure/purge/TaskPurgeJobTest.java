@@ -0,0 +1,107 @@
+package com.neosoft.practice_software.infrastructure.purge;
+
+import com.neosoft.practice_software.application.service.TaskService;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskCreationResult;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:purge;DB_CLOSE_DELAY=-1",
+        "app.tasks.batch.size=2",
+        "app.tasks.batch.pause=0ms"})
+class TaskPurgeJobTest {
+
+    private static final UUID ALICE_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskPurgeJob purgeJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deletedTasks_ShouldBeHiddenUntilPurgedInBatches() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(new Task(null, "Purged task " + i, null, TaskStatus.TODO, TaskPriority.LOW, null, null, null,
+                    ALICE_ID, null, null));
+        }
+        List<UUID> ids = taskService.createTasks(tasks).stream()
+                .map(TaskCreationResult::getTask)
+                .map(Task::getId)
+                .toList();
+        ids.forEach(taskService::deleteTask);
+
+        assertThat(taskService.getTaskById(ids.get(0))).isEmpty();
+        assertThat(taskService.deleteTask(ids.get(0))).isFalse();
+        assertThat(countRows()).isEqualTo(10);
+
+        // The title of a deleted task is free again
+        Task recreated = taskService.createTask(new Task(null, "Purged task 0", null, TaskStatus.TODO,
+                TaskPriority.LOW, null, null, null, ALICE_ID, null, null));
+
+        assertThat(purgeJob.purge(LocalDateTime.now().minusDays(1))).isZero();
+        assertThat(purgeJob.purge(LocalDateTime.now().plusSeconds(1))).isEqualTo(5);
+        assertThat(countRows()).isEqualTo(6);
+        assertThat(taskService.getTaskById(recreated.getId())).isPresent();
+    }
+
+    @Test
+    void tombstones_ShouldBePurgedOnceTheChangeFeedRetentionIsOver() {
+        for (int i = 0; i < 3; i++) {
+            Task task = taskService.createTask(new Task(null, "Tombstoned task " + i, null, TaskStatus.TODO,
+                    TaskPriority.LOW, null, null, null, ALICE_ID, null, null));
+            taskService.deleteTask(task.getId());
+        }
+        int tombstones = countTombstones();
+        assertThat(tombstones).isGreaterThanOrEqualTo(3);
+
+        assertThat(purgeJob.purgeTombstones(LocalDateTime.now().minusDays(1))).isZero();
+        assertThat(purgeJob.purgeTombstones(LocalDateTime.now().plusSeconds(1))).isEqualTo(tombstones);
+        assertThat(countTombstones()).isZero();
+    }
+
+    @Test
+    void liveTitles_ShouldStayUniquePerAssigneeInTheDatabase() {
+        insertTask("Unique task", null);
+
+        assertThatThrownBy(() -> insertTask("Unique task", null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // Deleted tasks never block each other nor the live one
+        insertTask("Unique task", LocalDateTime.now());
+        insertTask("Unique task", LocalDateTime.now());
+    }
+
+    private void insertTask(String title, LocalDateTime deletedAt) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("insert into tasks (id, title, status, created_at, updated_at, assignee_id, version, "
+                + "change_seq, deleted_at) values (?, ?, 1, ?, ?, ?, 0, 0, ?)",
+                UUID.randomUUID(), title, now, now, ALICE_ID, deletedAt);
+    }
+
+    private int countTombstones() {
+        return jdbcTemplate.queryForObject("select count(*) from task_tombstones", Integer.class);
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("select count(*) from tasks", Integer.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.neosoft.practice_software.infrastructure.reactive;
+
+import com.neosoft.practice_software.infrastructure.api.dto.TaskDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "app.reactive.r2dbc.url=r2dbc:h2:mem:///reactive"})
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+class ReactiveTaskRouterTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private String fileToString(String fileName) throws IOException {
+        ClassPathResource resource = new ClassPathResource(fileName);
+        return new String(Files.readAllBytes(resource.getFile().toPath()));
+    }
+
+    @Test
+    void getAllTasks_ShouldReturnTheSamePayloadAsTheServletEndpoint() throws IOException {
+        webTestClient.get().uri("/api/v1/tasks")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody().json(fileToString("tasks/task-test-data.json"));
+    }
+
+    @Test
+    void getAllTasks_AsNdjson_ShouldStreamOneTaskPerElement() {
+        Flux<TaskDTO> tasks = webTestClient.get().uri("/api/v1/tasks?include=none")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TaskDTO.class)
+                .getResponseBody();
+
+        // Request the tasks one by one, as a slow client would
+        StepVerifier.create(tasks, 1)
+                .expectNextMatches(task -> task.getTitle().equals("Task 1") && task.getAssignee() == null)
+                .thenRequest(4)
+                .expectNextCount(4)
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllTasks_WithInvalidInclude_ShouldReturnBadRequest() {
+        webTestClient.get().uri("/api/v1/tasks?include=everything")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Invalid include: everything");
+    }
+
+    @Test
+    void getTaskById_ShouldReturnTheTaskWithItsAssignee() {
+        webTestClient.get().uri("/api/v1/tasks/550e8400-e29b-41d4-a716-446655440011")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Task 2")
+                .jsonPath("$.assignee.username").isEqualTo("bob");
+    }
+
+    @Test
+    void getTaskById_WhenMissing_ShouldReturnNotFound() {
+        webTestClient.get().uri("/api/v1/tasks/550e8400-e29b-41d4-a716-446655449999")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,102 @@
+package com.neosoft.practice_software.infrastructure.search;
+
+import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.domain.model.TaskSearchHit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryTaskSearchIndexTest {
+
+    private static final UUID MEETING = UUID.fromString("550e8400-e29b-41d4-a716-446655440010");
+    private static final UUID REPORT = UUID.fromString("550e8400-e29b-41d4-a716-446655440011");
+    private static final UUID RELEASE = UUID.fromString("550e8400-e29b-41d4-a716-446655440012");
+
+    @Mock
+    private TaskDAO taskDAO;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryTaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryTaskSearchIndex(taskDAO, transactionManager);
+        index.index(MEETING, "Réunion d'équipe", "Préparer le compte rendu");
+        index.index(REPORT, "Compte rendu", "Envoyer le compte rendu de la réunion");
+        index.index(RELEASE, "Release", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.destroy();
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccents() {
+        assertThat(ids(index.search("REUNION", 10))).containsExactlyInAnyOrder(MEETING, REPORT);
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst() {
+        assertThat(ids(index.search("réunion", 10))).containsExactly(MEETING, REPORT);
+        assertThat(ids(index.search("compte rendu", 10))).containsExactly(REPORT, MEETING);
+    }
+
+    @Test
+    void search_ShouldRequireAllTheWords() {
+        assertThat(ids(index.search("compte release", 10))).isEmpty();
+        assertThat(ids(index.search("équipe compte", 10))).containsExactly(MEETING);
+    }
+
+    @Test
+    void search_ShouldKeepTheBestMatchesUpToTheLimit() {
+        List<TaskSearchHit> hits = index.search("rendu", 1);
+
+        assertThat(ids(hits)).containsExactly(REPORT);
+        assertThat(hits.get(0).score()).isPositive();
+    }
+
+    @Test
+    void index_ShouldReplaceThePreviousVersionOfTheTask() {
+        index.index(RELEASE, "Release notes", "Rédiger le compte rendu de la release");
+
+        assertThat(ids(index.search("notes", 10))).containsExactly(RELEASE);
+        assertThat(ids(index.search("release", 10))).containsExactly(RELEASE);
+        assertThat(ids(index.search("compte", 10))).hasSize(3);
+    }
+
+    @Test
+    void remove_ShouldDropTheTaskFromTheResults() {
+        index.remove(REPORT);
+
+        assertThat(ids(index.search("compte rendu", 10))).containsExactly(MEETING);
+    }
+
+    @Test
+    void index_ShouldKeepResultsAcrossCompactions() {
+        // Enough updates of the same task to compact the postings several times
+        for (int i = 0; i < 5000; i++) {
+            index.index(RELEASE, "Release " + i, null);
+        }
+
+        assertThat(ids(index.search("release 4999", 10))).containsExactly(RELEASE);
+        assertThat(ids(index.search("release 10", 10))).isEmpty();
+        assertThat(ids(index.search("réunion", 10))).containsExactly(MEETING, REPORT);
+    }
+
+    private static List<UUID> ids(List<TaskSearchHit> hits) {
+        return hits.stream().map(TaskSearchHit::taskId).toList();
+    }
+}
@@ -0,0 +1,157 @@
+package com.neosoft.practice_software.infrastructure.stats;
+
+import com.neosoft.practice_software.application.dao.TaskDAO;
+import com.neosoft.practice_software.domain.model.EstimationRules;
+import com.neosoft.practice_software.domain.model.Task;
+import com.neosoft.practice_software.domain.model.TaskChangeEvent;
+import com.neosoft.practice_software.domain.model.TaskPriority;
+import com.neosoft.practice_software.domain.model.TaskStats;
+import com.neosoft.practice_software.domain.model.TaskStatsGroup;
+import com.neosoft.practice_software.domain.model.TaskStatus;
+import com.neosoft.practice_software.infrastructure.estimation.RuleBasedEstimationEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryTaskStatsTest {
+
+    private static final UUID ALICE = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private static final UUID BOB = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+
+    @Mock
+    private TaskDAO taskDAO;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RuleBasedEstimationEngine estimationEngine;
+
+    private InMemoryTaskStats stats;
+
+    @BeforeEach
+    void setUp() {
+        estimationEngine = new RuleBasedEstimationEngine(EstimationRules.DEFAULT, 0, event -> { });
+        stats = new InMemoryTaskStats(taskDAO, estimationEngine, transactionManager);
+    }
+
+    @Test
+    void reconcile_ShouldCountAndEstimateTheTasksPerGroup() {
+        scan(task(TaskStatus.TODO, ALICE, TaskPriority.HIGH), task(TaskStatus.IN_PROGRESS, ALICE, TaskPriority.LOW),
+                task(TaskStatus.DONE, null, null));
+
+        stats.reconcile();
+
+        TaskStats result = stats.getStats();
+        assertThat(result.count()).isEqualTo(3);
+        // 3.0 + 2.0 * 0.75 * 0.7 + 0.25
+        assertThat(result.estimatedHours()).isEqualTo(4.3);
+        assertThat(result.byStatus()).containsExactly(
+                new TaskStatsGroup("DONE", 1, 0.25),
+                new TaskStatsGroup("IN_PROGRESS", 1, 1.05),
+                new TaskStatsGroup("TODO", 1, 3.0));
+        assertThat(result.byAssignee()).containsExactly(
+                new TaskStatsGroup(ALICE.toString(), 2, 4.05),
+                new TaskStatsGroup(null, 1, 0.25));
+        assertThat(result.byPriority()).extracting(TaskStatsGroup::key).containsExactly("HIGH", "LOW", null);
+    }
+
+    @Test
+    void onTaskChange_ShouldMoveTheTaskBetweenGroups() {
+        Task task = task(TaskStatus.TODO, ALICE, TaskPriority.HIGH);
+        stats.onTaskChange(TaskChangeEvent.created(task));
+
+        stats.onTaskChange(TaskChangeEvent.changed(TaskChangeEvent.Type.STATUS_CHANGED, task.getId(),
+                Map.of("status", TaskStatus.IN_PROGRESS)));
+        stats.onTaskChange(TaskChangeEvent.changed(TaskChangeEvent.Type.ASSIGNED, task.getId(),
+                Map.of("assigneeId", BOB)));
+
+        TaskStats result = stats.getStats();
+        assertThat(result.byStatus()).containsExactly(new TaskStatsGroup("IN_PROGRESS", 1, 2.1));
+        assertThat(result.byAssignee()).containsExactly(new TaskStatsGroup(BOB.toString(), 1, 2.1));
+
+        stats.onTaskChange(TaskChangeEvent.deleted(task.getId()));
+
+        assertThat(stats.getStats().count()).isZero();
+        assertThat(stats.getStats().byStatus()).isEmpty();
+    }
+
+    @Test
+    void onTaskChange_ByFilter_ShouldChangeTheMatchingTasks() {
+        stats.onTaskChange(TaskChangeEvent.created(task(TaskStatus.TODO, ALICE, null)));
+        stats.onTaskChange(TaskChangeEvent.created(task(TaskStatus.TODO, BOB, null)));
+        stats.onTaskChange(TaskChangeEvent.created(task(TaskStatus.IN_PROGRESS, ALICE, null)));
+
+        stats.onTaskChange(TaskChangeEvent.bulkStatusChanged(List.of(), Map.of("from", TaskStatus.TODO,
+                "status", TaskStatus.DONE, "assigneeId", ALICE)));
+
+        assertThat(stats.getStats().byStatus()).extracting(TaskStatsGroup::key, TaskStatsGroup::count)
+                .containsExactly(tuple("DONE", 1L), tuple("IN_PROGRESS", 1L), tuple("TODO", 1L));
+    }
+
+    @Test
+    void reconcile_ShouldReplaceDriftAndReplayTheChangesCommittedDuringTheScan() {
+        // Known from an event, but no longer in the table
+        stats.onTaskChange(TaskChangeEvent.created(task(TaskStatus.TODO, ALICE, null)));
+        Task scanned = task(TaskStatus.TODO, BOB, null);
+        Task createdDuringScan = task(TaskStatus.DONE, BOB, null);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Task>>getArgument(0).accept(scanned);
+            stats.onTaskChange(TaskChangeEvent.created(createdDuringScan));
+            return null;
+        }).when(taskDAO).streamAll(any());
+
+        stats.reconcile();
+
+        TaskStats result = stats.getStats();
+        assertThat(result.count()).isEqualTo(2);
+        assertThat(result.byAssignee()).containsExactly(new TaskStatsGroup(BOB.toString(), 2, 2.25));
+    }
+
+    @Test
+    void onRulesChange_ShouldReestimateTheKnownTasks() {
+        stats.onTaskChange(TaskChangeEvent.created(task(TaskStatus.TODO, ALICE, TaskPriority.HIGH)));
+        stats.onTaskChange(TaskChangeEvent.created(task(TaskStatus.IN_PROGRESS, BOB, null)));
+        EstimationRules rules = new EstimationRules(1.0, 0.25, Map.of(TaskPriority.HIGH, 2.0),
+                Map.of(TaskStatus.IN_PROGRESS, 0.5), 50, 0.5);
+
+        estimationEngine.reload(rules);
+        stats.onRulesChange(rules);
+
+        TaskStats result = stats.getStats();
+        assertThat(result.count()).isEqualTo(2);
+        // 1.0 * 2.0 + 1.0 * 0.5
+        assertThat(result.estimatedHours()).isEqualTo(2.5);
+        assertThat(result.byStatus()).containsExactly(
+                new TaskStatsGroup("IN_PROGRESS", 1, 0.5),
+                new TaskStatsGroup("TODO", 1, 2.0));
+    }
+
+    private void scan(Task... tasks) {
+        doAnswer(invocation -> {
+            Consumer<Task> consumer = invocation.getArgument(0);
+            for (Task task : tasks) {
+                consumer.accept(task);
+            }
+            return null;
+        }).when(taskDAO).streamAll(any());
+    }
+
+    private static Task task(TaskStatus status, UUID assigneeId, TaskPriority priority) {
+        return new Task(UUID.randomUUID(), "Task", "Description", status, priority, null, null, null, assigneeId,
+                null, 0L);
+    }
+}